@@ -32,6 +32,8 @@ public class QAccountHistory extends EntityPathBase<AccountHistory> {
 
     public final BooleanPath fixedExpenses = createBoolean("fixedExpenses");
 
+    public final StringPath naturalKey = createString("naturalKey");
+
     public final StringPath note = createString("note");
 
     public final StringPath storeName = createString("storeName");
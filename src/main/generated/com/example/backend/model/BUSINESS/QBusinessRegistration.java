@@ -48,6 +48,8 @@ public class QBusinessRegistration extends EntityPathBase<BusinessRegistration>
 
     public final com.example.backend.model.POS.QPos pos;
 
+    public final StringPath region = createString("region");
+
     public final StringPath representativeName = createString("representativeName");
 
     //inherited
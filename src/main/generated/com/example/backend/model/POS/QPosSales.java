@@ -22,6 +22,8 @@ public class QPosSales extends EntityPathBase<PosSales> {
 
     public static final QPosSales posSales = new QPosSales("posSales");
 
+    public final NumberPath<Long> externalOrderId = createNumber("externalOrderId", Long.class);
+
     public final EnumPath<com.example.backend.model.enumSet.OrderStatus> orderStatus = createEnum("orderStatus", com.example.backend.model.enumSet.OrderStatus.class);
 
     public final DateTimePath<java.time.LocalDateTime> orderTime = createDateTime("orderTime", java.time.LocalDateTime.class);
@@ -0,0 +1,57 @@
+package com.example.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 외부 서버별 HTTP 클라이언트 설정 (http-client.profiles.<이름>)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    private Map<String, Profile> profiles = new HashMap<>();
+
+    public Profile profile(String name) {
+        Profile profile = profiles.get(name);
+        if (profile == null) {
+            throw new IllegalStateException("HTTP 클라이언트 설정이 없습니다: http-client.profiles." + name);
+        }
+        return profile;
+    }
+
+    @Getter
+    @Setter
+    public static class Profile {
+
+        private String baseUrl;
+
+        // 커넥션 풀
+        private int maxConnections = 50;
+        private long pendingAcquireTimeoutMs = 5000;  // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간
+        private long maxIdleTimeMs = 30000;  // 이 시간 동안 쓰이지 않은 커넥션은 닫음
+        private long maxLifeTimeMs = 300000;
+        private long evictIntervalMs = 30000;  // 유휴/만료 커넥션 정리 주기
+
+        // 타임아웃
+        private int connectTimeoutMs = 2000;
+        private long readTimeoutMs = 10000;  // 읽기 사이 최대 대기 시간
+        private long writeTimeoutMs = 10000;
+        private long responseTimeoutMs = 10000;  // 요청 후 응답을 받기까지 최대 시간
+
+        private boolean compress = true;
+
+        // 재시도 (GET 만, 연결 실패 / 5xx / 타임아웃일 때)
+        private int maxRetries = 2;
+        private long retryBackoffMs = 200;
+
+        // 서킷 브레이커
+        private float failureRateThreshold = 50;  // 실패율(%)이 이 이상이면 차단
+        private int slidingWindowSize = 20;  // 실패율을 계산하는 최근 호출 수
+        private int minimumNumberOfCalls = 10;
+        private long waitInOpenStateMs = 30000;  // 차단 후 다시 시도해보기까지 시간
+    }
+}
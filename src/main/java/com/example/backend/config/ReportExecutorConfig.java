@@ -0,0 +1,33 @@
+package com.example.backend.config;
+
+import com.example.backend.service.AggregateCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ReportExecutorConfig {
+
+    // 동시에 진행할 GPT 리포트 생성 수
+    @Value("${report.executor.pool-size:4}")
+    private int poolSize;
+
+    // 대기 가능한 생성 요청 수 (넘으면 거절)
+    @Value("${report.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    // 작업마다 집계 캐시 범위를 새로 열어서 같은 리포트 생성 안의 반복 집계를 한 번만 계산
+    @Bean
+    public ThreadPoolTaskExecutor reportExecutor(AggregateCache aggregateCache) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("report-");
+        executor.setTaskDecorator(aggregateCache::decorate);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
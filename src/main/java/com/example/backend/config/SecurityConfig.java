@@ -2,6 +2,7 @@ package com.example.backend.config;
 
 import com.example.backend.filter.JwtAuthenticationFilter;
 import com.example.backend.util.TokenProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,6 +37,8 @@ public class SecurityConfig {
         http.csrf(csrf -> csrf.disable()) // CSRF 보호 비활성화
                 .cors(cors -> cors.configurationSource(corsConfigurationSource())) // CORS 설정 추가
                 .authorizeRequests(auth -> auth
+                        // Mono / SSE 응답의 ASYNC 디스패치와 ERROR 디스패치는 JWT 필터를 다시 타지 않으므로 허용 (최초 REQUEST 디스패치에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()// 인증 및 회원가입 엔드포인트 접근 허용
                         .requestMatchers("/api/pos-sales/save").permitAll()  // 포스 API 호출
                         .requestMatchers("/api/business/br-connect").permitAll()  // 포스 API 호출
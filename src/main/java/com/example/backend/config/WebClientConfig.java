@@ -1,35 +1,132 @@
 package com.example.backend.config;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+//////////// 외부 서버 WebClient
+/// 1. 서버마다 http-client.profiles.<이름> 설정으로 커넥션 풀 / 타임아웃 / 압축 / 재시도 / 서킷 브레이커를 따로 구성
+/// 2. 외부 서버가 멈춰도 요청/스케줄러 스레드가 타임아웃 이상 묶이지 않고, 계속 실패하면 서킷 브레이커가 바로 실패시킴
+/// 3. 호출하는 쪽은 baseUrl 기준 상대 경로만 사용
 
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class WebClientConfig {
 
-    // 8084 서버(WebClient 1)
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+
+    // 8084 서버(WebClient 1) - 사업자 인증
     @Primary
     @Bean(name = "webClient8084")
-    public WebClient webClientFor8084(WebClient.Builder builder) {
-        return builder
-                .baseUrl("http://localhost:8084")
-                .build();
+    public WebClient webClientFor8084(WebClient.Builder builder, HttpClientProperties properties) {
+        return create(builder, "business", properties.profile("business"));
     }
 
-    // 8083 서버(WebClient 2)
+    // 8083 서버(WebClient 2) - POS
     @Bean(name = "webClient8083")
-    public WebClient webClientFor8083(WebClient.Builder builder) {
-        return builder
-                .baseUrl("http://localhost:8083")
-                .build();
+    public WebClient webClientFor8083(WebClient.Builder builder, HttpClientProperties properties) {
+        return create(builder, "pos", properties.profile("pos"));
     }
 
-    // 8081 서버(WebClient 3)
+    // 8081 서버(WebClient 3) - 은행
     @Bean(name = "webClient8081")
-    public WebClient webClientFor8081(WebClient.Builder builder) {
-        return builder
-                .baseUrl("http://localhost:8081")
+    public WebClient webClientFor8081(WebClient.Builder builder, HttpClientProperties properties) {
+        return create(builder, "bank", properties.profile("bank"));
+    }
+
+    // OpenAI (인증 헤더는 ReportService 에서 추가)
+    @Bean(name = "webClientOpenAi")
+    public WebClient webClientForOpenAi(WebClient.Builder builder, HttpClientProperties properties) {
+        return create(builder, "openai", properties.profile("openai"));
+    }
+
+    @PreDestroy
+    public void disposeConnectionProviders() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+
+    private WebClient create(WebClient.Builder builder, String name, HttpClientProperties.Profile profile) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("http-" + name)
+                .maxConnections(profile.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(profile.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(profile.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(profile.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofMillis(profile.getEvictIntervalMs()))
+                .build();
+        connectionProviders.add(connectionProvider);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, profile.getConnectTimeoutMs())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(profile.getResponseTimeoutMs()))
+                .compress(profile.isCompress())
+                // 요청마다 추가 (풀에 반납될 때 제거되므로 유휴 커넥션은 닫지 않음)
+                .doOnRequest((request, connection) -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(profile.getReadTimeoutMs(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(profile.getWriteTimeoutMs(), TimeUnit.MILLISECONDS)));
+
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("http-" + name, CircuitBreakerConfig.custom()
+                .failureRateThreshold(profile.getFailureRateThreshold())
+                .slidingWindowSize(profile.getSlidingWindowSize())
+                .minimumNumberOfCalls(profile.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(Duration.ofMillis(profile.getWaitInOpenStateMs()))
+                .build());
+
+        return builder.clone()
+                .baseUrl(profile.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(resilienceFilter(circuitBreaker, profile))
                 .build();
     }
+
+    // 5xx / 연결 실패 / 타임아웃은 서킷 브레이커 실패로 집계하고, 멱등인 GET 만 backoff 로 재시도
+    private ExchangeFilterFunction resilienceFilter(CircuitBreaker circuitBreaker, HttpClientProperties.Profile profile) {
+        return (request, next) -> {
+            Mono<ClientResponse> exchange = next.exchange(request)
+                    .flatMap(response -> response.statusCode().is5xxServerError()
+                            ? response.createException().flatMap(e -> Mono.<ClientResponse>error(e))
+                            : Mono.just(response))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+
+            if (request.method() != HttpMethod.GET || profile.getMaxRetries() <= 0) {
+                return exchange;
+            }
+            return exchange.retryWhen(Retry.backoff(profile.getMaxRetries(), Duration.ofMillis(profile.getRetryBackoffMs()))
+                    .filter(WebClientConfig::isRetryable)
+                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        };
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            return false;
+        }
+        return e instanceof WebClientRequestException
+                || (e instanceof WebClientResponseException responseException && responseException.getStatusCode().is5xxServerError());
+    }
 }
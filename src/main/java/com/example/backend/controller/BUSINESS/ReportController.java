@@ -1,5 +1,6 @@
 package com.example.backend.controller.BUSINESS;
 
+import com.example.backend.dto.report.ReportJobDTO;
 import com.example.backend.service.BUSINESS.ReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -7,10 +8,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.net.URI;
 import java.time.YearMonth;
 import java.util.Map;
 
@@ -29,15 +35,17 @@ public class ReportController {
             @ApiResponse(responseCode = "500", description = "시장 동향 보고서 생성 중 서버 오류 발생")
     })
     @GetMapping("/market-trend")
-    public ResponseEntity<Map<String, Object>> getMarketReport() {
-        try {
-            Map<String, Object> report = reportService.generateMarketReport();
-            return ResponseEntity.ok(report);
-
-        } catch (Exception e) {
-            log.error("시장 동향 생성 실패", e);
-            return null;
-        }
+    public Mono<ResponseEntity<Map<String, Object>>> getMarketReport(
+            @RequestParam(required = false) YearMonth month
+    ) {
+        // 시장 동향은 월마다 하나만 생성해 공유 (month 가 없으면 이번 달)
+        YearMonth reportMonth = month != null ? month : YearMonth.now();
+        return reportService.getReport(null, reportMonth, "MARKET_REPORT")
+                .map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("시장 동향 생성 실패", e);
+                    return Mono.just(ResponseEntity.status(500).body(Map.of("error", "시장 동향 보고서 생성 중 오류 발생")));
+                });
     }
 
     @Operation(summary = "동종 업계 비교 분석 보고서 생성", description = "지역 기반으로 동종 업계 비교 분석 보고서를 생성합니다.")
@@ -47,43 +55,109 @@ public class ReportController {
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/industry-comparison")
-    public ResponseEntity<Map<String, Object>> getIndustryComparison(
+    public Mono<ResponseEntity<Map<String, Object>>> getIndustryComparison(
             @AuthenticationPrincipal Long memberId,  // JWT에서 추출한 memberId
             @RequestParam YearMonth month
 
     ) {
-        try {
-            Map<String, Object> report = reportService.generateIndustryComparisonReport(memberId, month);
-            return ResponseEntity.ok(report);
-        } catch (Exception e) {
-            log.error("동종 업계 비교 분석 실패", e);
-            return null;
-        }
+        // 저장된 보고서가 있으면 그대로, 없으면 reportExecutor 에서 생성 (같은 월 요청은 한 번만 생성)
+        return reportService.getReport(memberId, month, "INDUSTRY_REPORT")
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    log.error("잘못된 요청: {}", e.getMessage());
+                    return Mono.just(ResponseEntity.badRequest().body(Map.of("error", "잘못된 요청: " + e.getMessage())));
+                })
+                .onErrorResume(e -> {
+                    log.error("동종 업계 비교 분석 실패", e);
+                    return Mono.just(ResponseEntity.status(500).body(Map.of("error", "동종 업계 비교 분석 중 오류 발생")));
+                });
     }
 
-    @Operation(summary = "모든 보고서 조회", description = "특정 월에 대한 모든 보고서를 조회합니다.")
+    @Operation(summary = "동종 업계 비교 분석 보고서 스트리밍", description = "동종 업계 비교 분석 보고서를 생성되는 대로 SSE 로 전달합니다. delta 이벤트는 생성 중인 JSON 조각, report 이벤트는 저장된 최종 보고서, error 이벤트는 생성 실패입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "스트리밍 시작"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+    })
+    @GetMapping(value = "/industry-comparison/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamIndustryComparison(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam YearMonth month
+    ) {
+        return reportService.streamIndustryComparisonReport(memberId, month);
+    }
+
+    @Operation(summary = "모든 보고서 조회", description = "특정 월에 대한 모든 보고서를 동시에 조회합니다. 제한 시간 안에 생성되지 않은 보고서가 있으면 202 와 작업 ID 를 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "모든 보고서 조회 성공"),
+            @ApiResponse(responseCode = "202", description = "일부 보고서 생성 중 (완료된 보고서는 reports, 생성 중인 보고서는 jobs 의 jobId 로 상태 조회)"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/all")
-    public ResponseEntity<Map<String, Object>> getAllReport(
+    public Mono<ResponseEntity<Object>> getAllReport(
             @AuthenticationPrincipal Long memberId,
             @RequestParam YearMonth month
     ) {
         try {
-            Map<String, Map<String, Object>> reports = reportService.getAllReports(memberId, month);
-            return ResponseEntity.ok(Map.of("reports", reports));
+            // 리포트들을 동시에 기다리는 동안 요청 스레드는 반환됨
+            return reportService.getAllReports(memberId, month)
+                    .map(reports -> reports.hasPendingJobs()
+                            ? ResponseEntity.accepted().body((Object) reports)
+                            : ResponseEntity.ok((Object) reports))
+                    .onErrorResume(e -> {
+                        log.error("보고서 생성 오류", e);
+                        return Mono.just(ResponseEntity.status(500).body(Map.of("error", "보고서 생성 중 오류 발생")));
+                    });
         } catch (IllegalArgumentException e) {
             log.error("잘못된 요청: {}", e.getMessage());
-            return ResponseEntity.badRequest().body(Map.<String, Object>of("error", "잘못된 요청: " + e.getMessage()));
+            return Mono.just(ResponseEntity.badRequest().body(Map.of("error", "잘못된 요청: " + e.getMessage())));
         } catch (Exception e) {
             log.error("보고서 생성 오류", e);
-            return ResponseEntity.status(500).body(Map.of("error", "보고서 생성 중 오류 발생"));
+            return Mono.just(ResponseEntity.status(500).body(Map.of("error", "보고서 생성 중 오류 발생")));
         }
     }
 
+    @Operation(summary = "보고서 생성 요청", description = "보고서가 있으면 바로 반환하고, 없으면 생성 작업을 등록한 뒤 202 와 작업 ID 를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "이미 생성된 보고서 반환"),
+            @ApiResponse(responseCode = "202", description = "보고서 생성 작업 등록"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터")
+    })
+    @PostMapping("/jobs")
+    public ResponseEntity<ReportJobDTO> submitReportJob(
+            @AuthenticationPrincipal Long memberId,
+            @RequestParam YearMonth month,
+            @RequestParam String reportType
+    ) {
+        try {
+            ReportJobDTO job = reportService.submitReportJob(memberId, month, reportType);
+            if (job.isDone()) {
+                return ResponseEntity.ok(job);
+            }
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/report/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            log.error("잘못된 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "보고서 생성 작업 상태 조회", description = "RUNNING / DONE / FAILED 상태와 완료된 보고서를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "작업 상태 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "작업이 없거나 만료됨")
+    })
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ReportJobDTO> getReportJob(
+            @AuthenticationPrincipal Long memberId,
+            @PathVariable String jobId
+    ) {
+        return reportService.getReportJob(memberId, jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     @Operation(summary = "지난 달 보고서 존재 여부 확인", description = "사용자의 지난 달 보고서가 존재하는지 확인합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "지난 달 보고서 존재 여부 확인 성공"),
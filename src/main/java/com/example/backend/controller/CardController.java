@@ -1,5 +1,6 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.card.CardRecommendationDTO;
 import com.example.backend.service.CardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,7 +17,6 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.time.YearMonth;
 import java.util.List;
-import java.util.Map;
 
 
 @RestController
@@ -35,12 +35,12 @@ public class CardController {
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/recommend")
-    public ResponseEntity<List<Map<String, Object>>> cardRecommend(
+    public ResponseEntity<List<CardRecommendationDTO>> cardRecommend(
             @RequestParam("month") String month,
             @AuthenticationPrincipal Long memberId) {
         YearMonth yearMonth = YearMonth.parse(month);
 
-        List<Map<String, Object>> recommends = cardService.recommendCards(yearMonth, memberId);
+        List<CardRecommendationDTO> recommends = cardService.recommendCards(yearMonth, memberId);
 
         return ResponseEntity.ok(recommends);
     }
@@ -1,11 +1,15 @@
 package com.example.backend.controller.POS;
 
+import com.example.backend.dto.pos.PosSalesRequestDTO;
 import com.example.backend.service.POS.OrderSyncService;
+import com.example.backend.service.POS.PosSalesService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -21,6 +25,7 @@ import java.util.List;
 public class PosSalesController {
 
     private final OrderSyncService orderSyncService;
+    private final PosSalesService posSalesService;
 
 
     @Operation(summary = "POS 매출 데이터 동기화", description = "POS 시스템의 매출 데이터를 동기화합니다.")
@@ -40,4 +45,20 @@ public class PosSalesController {
         }
     }
 
+    @Operation(summary = "POS 매출 데이터 수신", description = "POS 시스템이 push 한 매출 배치를 접수합니다. 저장은 비동기로 진행됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "POS 매출 데이터 접수 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+            @ApiResponse(responseCode = "429", description = "적재 대기열이 가득 참 (Retry-After 이후 재시도)")
+    })
+    @PostMapping("/save")
+    public ResponseEntity<String> saveSales(@RequestBody List<PosSalesRequestDTO> requests) {
+        if (!posSalesService.enqueueSales(requests)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("POS Sales queue is full. Retry later.");
+        }
+        return ResponseEntity.accepted().body("POS Sales accepted: " + requests.size());
+    }
+
 }
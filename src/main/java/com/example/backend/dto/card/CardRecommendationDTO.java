@@ -0,0 +1,28 @@
+package com.example.backend.dto.card;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// 카드 추천 결과 (절약 금액 상위 카드만 상세 정보까지 채움)
+public record CardRecommendationDTO(
+        String cardName,
+        String corporateName,
+        BigDecimal totalSaving,
+        int ranking,
+        String imageURL,
+        List<String> benefits,
+        List<SavingDetail> savingDetails
+) {
+
+    // 지출 항목별 절약 내역
+    public record SavingDetail(
+            String category,
+            String storeName,
+            String note,
+            List<String> benefit,
+            BigDecimal amount,
+            String discountRate,
+            BigDecimal saving
+    ) {
+    }
+}
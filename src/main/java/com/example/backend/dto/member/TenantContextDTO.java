@@ -0,0 +1,19 @@
+package com.example.backend.dto.member;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// 로그인한 회원이 연결된 사업자 / 계좌 / 포스 식별자 (인증 전이면 null)
+@Getter
+@ToString
+@AllArgsConstructor
+public class TenantContextDTO {
+
+    private Long memberId;
+    private Long businessRegistrationId;
+    private Long accountId;
+    private Long posId;
+    private String address; // 사업장 주소
+    private String region; // 사업장 주소의 "동"
+}
@@ -23,5 +23,6 @@ public class PosSalesRequestDTO {
     private int quantity;
     private String orderStatus;
     private String paymentStatus;
+    private String paymentType;
 
 }
@@ -0,0 +1,24 @@
+package com.example.backend.dto.report;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// 월별 전체 리포트 (완료된 리포트 / 아직 생성 중인 리포트의 작업 / 실패한 리포트의 오류)
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class AllReportsDTO {
+
+    private Map<String, Map<String, Object>> reports;
+    private Map<String, ReportJobDTO> jobs;
+    private Map<String, String> errors;
+
+    @JsonIgnore
+    public boolean hasPendingJobs() {
+        return jobs != null && !jobs.isEmpty();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.backend.dto.report;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// 리포트 생성 작업 상태 (RUNNING / DONE / FAILED)
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReportJobDTO {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    private String jobId; // 이미 생성된 리포트면 null
+    private String status;
+    private String reportType;
+    private String month;
+    private Map<String, Object> report; // DONE 일 때만
+    private String error; // FAILED 일 때만
+
+    public boolean isDone() {
+        return DONE.equals(status);
+    }
+}
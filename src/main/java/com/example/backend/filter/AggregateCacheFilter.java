@@ -0,0 +1,28 @@
+package com.example.backend.filter;
+
+import com.example.backend.service.AggregateCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 요청마다 집계 캐시 범위를 열고, 응답이 끝나면 닫음
+@Component
+@RequiredArgsConstructor
+public class AggregateCacheFilter extends OncePerRequestFilter {
+
+    private final AggregateCache aggregateCache;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws IOException, ServletException {
+        try (AggregateCache.Scope ignored = aggregateCache.open()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
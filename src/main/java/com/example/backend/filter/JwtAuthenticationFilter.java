@@ -1,7 +1,9 @@
 package com.example.backend.filter;
 
+import com.example.backend.util.JwtPrincipal;
 import com.example.backend.util.TokenProvider;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -39,12 +41,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (accessToken != null) {
             try {
-                // accessToken 유효성 검증
-                if (tokenProvider.validateToken(accessToken)) {
-                    setAuthentication(accessToken);
-                }
+                // accessToken 을 한 번만 파싱해서 검증 + memberId 추출
+                setAuthentication(tokenProvider.verify(accessToken));
             } catch (ExpiredJwtException e) {
-                log.info("Access token이 만료되었습니다. Refresh Token으로 갱신을 시도합니다...");
+                log.debug("Access token이 만료되었습니다. Refresh Token으로 갱신을 시도합니다...");
 
                 String loginId = e.getClaims().getSubject();
                 Long memberId = e.getClaims().get("memberId", Long.class);
@@ -58,18 +58,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 } else {
                     String newAccessToken = tokenProvider.createAccessToken(loginId, memberId);
                     tokenProvider.setAccessTokenCookie(newAccessToken, response);
-                    setAuthentication(newAccessToken);
+                    setAuthentication(tokenProvider.verify(newAccessToken));
                     log.info("새로운 Access Token이 발급되었습니다. loginId: {}", loginId);
                 }
+            } catch (JwtException | IllegalArgumentException e) {
+                log.warn("유효하지 않은 JWT 토큰입니다.");
             }
         }
         filterChain.doFilter(request, response);
     }
 
-    private void setAuthentication(String token) {
-        Long memberId = tokenProvider.getMemberIdFromToken(token);
+    // principal 은 기존대로 memberId, 토큰 정보 전체는 details 에 담음
+    private void setAuthentication(JwtPrincipal principal) {
         UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(memberId, null, null);
+                new UsernamePasswordAuthenticationToken(principal.memberId(), null, null);
+        authentication.setDetails(principal);
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
@@ -6,16 +6,23 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "account_history")
+@Table(name = "account_history",
+        uniqueConstraints = @UniqueConstraint(name = "uk_account_history_natural_key", columnNames = "natural_key"),
+        // 계좌 × 거래유형 × 기간 조회용 커버링 인덱스 (월/주/일 합계, 카테고리별 합계를 테이블 접근 없이 계산)
+        indexes = @Index(name = "idx_account_history_account_type_date", columnList = "account_id, transaction_type, transaction_date, category, amount"))
 public class AccountHistory {
 
+    private static final DateTimeFormatter NATURAL_KEY_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
     // 계좌 기록 식별 ID
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -61,6 +68,10 @@ public class AccountHistory {
     @Column(name = "store_name", length = 50)
     private String storeName;
 
+    // 중복 수집 방지용 자연키 (계좌ID:거래일:금액)
+    @Column(name = "natural_key", length = 80)
+    private String naturalKey;
+
     @Builder
     public AccountHistory(String transactionType, Account account, String transactionMeans, LocalDateTime transactionDate,BigDecimal amount, String category, String note, Boolean fixedExpenses, String storeName) {
         this.account = account;
@@ -74,4 +85,17 @@ public class AccountHistory {
         this.storeName = storeName;
     }
 
+    // 자연키 생성 (DB 백필 쿼리의 DATE_FORMAT / CAST 결과와 같은 형식이어야 함)
+    public static String naturalKeyOf(Long accountId, LocalDateTime transactionDate, BigDecimal amount) {
+        return accountId + ":" + transactionDate.format(NATURAL_KEY_DATE_FORMAT) + ":"
+                + (amount != null ? amount.setScale(0, RoundingMode.HALF_UP).toPlainString() : "");
+    }
+
+    @PrePersist
+    void fillNaturalKey() {
+        if (naturalKey == null && account != null && transactionDate != null) {
+            naturalKey = naturalKeyOf(account.getAccountId(), transactionDate, amount);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.backend.model.BANK;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "account_sync_state")
+public class AccountSyncState {
+
+    // 계좌 ID (bank 계좌 식별 ID 그대로 사용)
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    // 마지막으로 수집한 거래일 (high-watermark, bank API 에 since 로 전달)
+    @Column(name = "last_transaction_date")
+    private LocalDateTime lastTransactionDate;
+
+    // 마지막 동기화 시각
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+}
@@ -0,0 +1,44 @@
+package com.example.backend.model.BANK;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// account_history 지출의 지역(동) × 월 × 카테고리 별 (합계, 건수) 집계 (지역 평균 비교용 롤업)
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "region_expense_monthly",
+        uniqueConstraints = @UniqueConstraint(name = "uk_region_expense_monthly", columnNames = {"region", "expense_month", "category"}))
+public class RegionExpenseMonthly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "region_expense_monthly_id")
+    private Long regionExpenseMonthlyId;
+
+    // 사업장 주소의 "동"
+    @Column(name = "region", nullable = false, length = 50)
+    private String region;
+
+    // 지출 월 (1일)
+    @Column(name = "expense_month", nullable = false)
+    private LocalDate expenseMonth;
+
+    // 카테고리 (카테고리가 없는 지출은 빈 문자열)
+    @Column(name = "category", nullable = false, length = 50)
+    private String category;
+
+    // 지출 합계
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 0)
+    private BigDecimal totalAmount;
+
+    // 지출 건수
+    @Column(name = "expense_count", nullable = false)
+    private long expenseCount;
+}
@@ -11,7 +11,8 @@ import java.time.LocalDate;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "business_registration")
+@Table(name = "business_registration",
+        indexes = @Index(name = "idx_business_registration_region", columnList = "region, account_id"))
 public class BusinessRegistration extends BaseTime {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,6 +35,10 @@ public class BusinessRegistration extends BaseTime {
     @Column(name = "address", nullable = true, length = 255)
     private String address;
 
+    // 사업장 주소의 "동" (지역 평균 비교용, 주소가 저장될 때마다 다시 추출)
+    @Column(name = "region", nullable = true, length = 50)
+    private String region;
+
     // 사업 시작일
     @Column(name = "business_start_date")
     private LocalDate businessStartDate;
@@ -56,5 +61,22 @@ public class BusinessRegistration extends BaseTime {
     @JoinColumn(name = "account_id", nullable = true)
     public Account account;
 
+    @PrePersist
+    @PreUpdate
+    void fillRegion() {
+        region = regionOf(address);
+    }
 
+    // 주소에서 "동" 추출 (없으면 null)
+    public static String regionOf(String address) {
+        if (address == null || address.isEmpty()) {
+            return null;
+        }
+        for (String part : address.split(" ")) {
+            if (part.endsWith("동")) {
+                return part;
+            }
+        }
+        return null;
+    }
 }
@@ -15,7 +15,8 @@ import java.time.YearMonth;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "goals")
+@Table(name = "goals",
+        indexes = @Index(name = "idx_goals_business_month", columnList = "business_registration_id, goal_month"))
 public class Goals extends BaseTime {
 
     // 식별 ID
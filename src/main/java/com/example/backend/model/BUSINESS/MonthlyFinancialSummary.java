@@ -0,0 +1,65 @@
+package com.example.backend.model.BUSINESS;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 사업자 × 월 손익 스냅샷 (계좌 수입/지출, 순이익, 포스 매출, 카테고리별 지출)
+// 수집 시 해당 월만 다시 집계하고, 마감된 달(closed)은 더 이상 바뀌지 않음
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "monthly_financial_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_monthly_financial_summary", columnNames = {"business_registration_id", "summary_month"}))
+public class MonthlyFinancialSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "monthly_financial_summary_id")
+    private Long monthlyFinancialSummaryId;
+
+    @Column(name = "business_registration_id", nullable = false)
+    private Long businessRegistrationId;
+
+    // 집계 월 (1일)
+    @Column(name = "summary_month", nullable = false)
+    private LocalDate summaryMonth;
+
+    // 계좌 수입 합계
+    @Column(name = "revenue", nullable = false, precision = 19, scale = 0)
+    private BigDecimal revenue;
+
+    // 계좌 지출 합계
+    @Column(name = "expense", nullable = false, precision = 19, scale = 0)
+    private BigDecimal expense;
+
+    // 순이익 (수입 - 지출)
+    @Column(name = "net_profit", nullable = false, precision = 19, scale = 0)
+    private BigDecimal netProfit;
+
+    // 포스 매출 합계 (pos_sales_daily 기준)
+    @Column(name = "pos_revenue", nullable = false, precision = 19, scale = 0)
+    private BigDecimal posRevenue;
+
+    // 카테고리 -> 지출 합계 (카테고리가 없는 지출은 빈 문자열)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "category_expenses", nullable = false)
+    private Map<String, BigDecimal> categoryExpenses;
+
+    // 월 마감 여부 (마감 후에는 수집이 있어도 다시 집계하지 않음)
+    @Column(name = "closed", nullable = false)
+    private boolean closed;
+
+    // 마지막 집계 시각
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+}
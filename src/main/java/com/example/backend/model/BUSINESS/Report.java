@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "report")
+@Table(name = "report",
+        uniqueConstraints = @UniqueConstraint(name = "uk_report_business_month_type", columnNames = {"business_registration_id", "report_month", "report_type"}))
 public class Report extends BaseTime {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
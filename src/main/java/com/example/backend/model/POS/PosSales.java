@@ -15,7 +15,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "pos_sales")
+@Table(name = "pos_sales",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pos_sales_external_order", columnNames = {"pos_id", "external_order_id"}),
+        // 월별 전체 사업자 집계용 커버링 인덱스 (테이블 접근 없이 인덱스만으로 집계)
+        indexes = {
+                @Index(name = "idx_pos_sales_time_payment_price", columnList = "order_time, payment_type, total_price, pos_id"),
+                // pos_sales_daily 롤업을 POS 의 하루치 범위로 다시 집계할 때 사용 (집계 컬럼까지 포함한 커버링 인덱스)
+                @Index(name = "idx_pos_sales_pos_time_cover", columnList = "pos_id, order_time, payment_type, total_price, vat_amount")
+        })
 public class PosSales {
 
     @Id
@@ -23,6 +30,10 @@ public class PosSales {
     @Column(name = "pos_sales_id")
     private Long posSalesId;
 
+    // POS 서비스의 주문 ID (중복 수집 방지용 외부 식별자)
+    @Column(name = "external_order_id")
+    private Long externalOrderId;
+
     @ManyToOne
     @JoinColumn(name = "pos_id", nullable = false)
     private Pos posId;
@@ -0,0 +1,51 @@
+package com.example.backend.model.POS;
+
+import com.example.backend.model.enumSet.PaymentTypeEnum;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// pos_sales 의 POS × 일자 × 결제유형 별 집계 (대시보드 조회용 롤업)
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "pos_sales_daily",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pos_sales_daily", columnNames = {"pos_id", "sales_date", "payment_type"}),
+        // POS × 기간 매출 조회용 커버링 인덱스 (일별/월별 합계를 테이블 접근 없이 계산)
+        indexes = @Index(name = "idx_pos_sales_daily_cover", columnList = "pos_id, sales_date, payment_type, total_sales"))
+public class PosSalesDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pos_sales_daily_id")
+    private Long posSalesDailyId;
+
+    @Column(name = "pos_id", nullable = false)
+    private Long posId;
+
+    // 매출 일자
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    // 결제 유형 ( CARD / CASH )
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_type", nullable = false)
+    private PaymentTypeEnum paymentType;
+
+    // 해당 일자 매출 합계
+    @Column(name = "total_sales", nullable = false)
+    private BigDecimal totalSales;
+
+    // 해당 일자 주문 건수
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    // 해당 일자 부가세 합계
+    @Column(name = "vat_amount", nullable = false)
+    private BigDecimal vatAmount;
+}
@@ -0,0 +1,101 @@
+package com.example.backend.model.POS;
+
+import com.example.backend.model.enumSet.OrderStatus;
+import com.example.backend.model.enumSet.PaymentStatus;
+import com.example.backend.model.enumSet.PaymentTypeEnum;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 재시도 후에도 저장하지 못한 push 매출 (주기적으로 다시 저장을 시도하고 성공하면 삭제)
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "pos_sales_dead_letter",
+        indexes = @Index(name = "idx_pos_sales_dead_letter_failed_at", columnList = "failed_at"))
+public class PosSalesDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pos_sales_dead_letter_id")
+    private Long posSalesDeadLetterId;
+
+    @Column(name = "pos_id", nullable = false)
+    private Long posId;
+
+    // POS 서비스의 주문 ID
+    @Column(name = "external_order_id")
+    private Long externalOrderId;
+
+    @Column(name = "order_time", nullable = false)
+    private LocalDateTime orderTime;
+
+    @Column(name = "total_price", nullable = false)
+    private BigDecimal totalPrice;
+
+    @Column(name = "vat_amount", nullable = false)
+    private BigDecimal vatAmount;
+
+    @Column(name = "product_name")
+    private String productName;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", nullable = false)
+    private OrderStatus orderStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_type", nullable = false)
+    private PaymentTypeEnum paymentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false)
+    private PaymentStatus paymentStatus;
+
+    // 마지막 실패 사유
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    // 처음 dead-letter 로 옮긴 시각
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    public static PosSalesDeadLetter of(PosSales sale, String errorMessage) {
+        return PosSalesDeadLetter.builder()
+                .posId(sale.getPosId().getPosId())
+                .externalOrderId(sale.getExternalOrderId())
+                .orderTime(sale.getOrderTime())
+                .totalPrice(sale.getTotalPrice())
+                .vatAmount(sale.getVatAmount())
+                .productName(sale.getProductName())
+                .quantity(sale.getQuantity())
+                .orderStatus(sale.getOrderStatus())
+                .paymentType(sale.getPaymentType())
+                .paymentStatus(sale.getPaymentStatus())
+                .errorMessage(errorMessage != null && errorMessage.length() > 1000 ? errorMessage.substring(0, 1000) : errorMessage)
+                .failedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public PosSales toPosSales() {
+        return PosSales.builder()
+                .posId(Pos.builder().posId(posId).build())
+                .externalOrderId(externalOrderId)
+                .orderTime(orderTime)
+                .totalPrice(totalPrice)
+                .vatAmount(vatAmount)
+                .productName(productName)
+                .quantity(quantity)
+                .orderStatus(orderStatus)
+                .paymentType(paymentType)
+                .paymentStatus(paymentStatus)
+                .build();
+    }
+}
@@ -3,5 +3,5 @@ package com.example.backend.repository;
 import com.example.backend.model.BANK.AccountHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface AccountHistoryRepository extends JpaRepository<AccountHistory, Long> {
+public interface AccountHistoryRepository extends JpaRepository<AccountHistory, Long>, AccountHistoryRepositoryCustom {
 }
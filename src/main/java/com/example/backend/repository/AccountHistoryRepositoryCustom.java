@@ -0,0 +1,14 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.BANK.AccountHistory;
+
+import java.util.List;
+
+public interface AccountHistoryRepositoryCustom {
+
+    // natural_key 유니크 인덱스 기준으로 중복은 건너뛰고 저장 (그 외 제약 위반은 예외) / 새로 저장된 행 수 반환
+    int insertIgnoreDuplicates(List<AccountHistory> histories);
+
+    // natural_key 가 비어있는 기존 행 채우기 / 채운 행 수 반환
+    int backfillNaturalKeys();
+}
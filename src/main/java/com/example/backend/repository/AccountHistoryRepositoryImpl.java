@@ -0,0 +1,100 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.BANK.AccountHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class AccountHistoryRepositoryImpl implements AccountHistoryRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO account_history
+                (account_id, transaction_type, transaction_means, transaction_date, amount, category, note, fixed_expenses, store_name, natural_key)
+            VALUES\s""";
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 유니크 키 중복만 흡수 (IGNORE 와 달리 FK / NOT NULL 위반은 오류로 올라가서 청크 트랜잭션이 롤백됨)
+    private static final String ON_DUPLICATE_KEY_SQL = " ON DUPLICATE KEY UPDATE account_history_id = account_history_id";
+
+    private static final String EXISTING_KEY_SQL = """
+            SELECT natural_key FROM account_history WHERE natural_key IN (%s)
+            """;
+
+    // AccountHistory.naturalKeyOf 와 같은 형식 / 중복 행은 IGNORE 로 null 인 채로 남김
+    private static final String BACKFILL_SQL = """
+            UPDATE IGNORE account_history
+            SET natural_key = CONCAT(account_id, ':', DATE_FORMAT(transaction_date, '%Y-%m-%dT%H:%i:%s'), ':', IFNULL(CAST(amount AS CHAR), ''))
+            WHERE natural_key IS NULL
+              AND account_id IS NOT NULL
+              AND transaction_date IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // hibernate 설정의 batch_size 를 그대로 사용
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    public int insertIgnoreDuplicates(List<AccountHistory> histories) {
+        int inserted = 0;
+
+        // batch_size 만큼 묶어서 multi-row INSERT 한 번으로 저장
+        for (int from = 0; from < histories.size(); from += batchSize) {
+            List<AccountHistory> batch = fresh(histories.subList(from, Math.min(from + batchSize, histories.size())));
+            if (batch.isEmpty()) {
+                continue;
+            }
+            String sql = INSERT_SQL + String.join(", ", Collections.nCopies(batch.size(), VALUES_ROW)) + ON_DUPLICATE_KEY_SQL;
+
+            List<Object> params = new ArrayList<>(batch.size() * 10);
+            for (AccountHistory history : batch) {
+                params.add(history.getAccount().getAccountId());
+                params.add(history.getTransactionType() != null ? history.getTransactionType().name() : null);
+                params.add(history.getTransactionMeans() != null ? history.getTransactionMeans().name() : null);
+                params.add(Timestamp.valueOf(history.getTransactionDate()));
+                params.add(history.getAmount());
+                params.add(history.getCategory());
+                params.add(history.getNote());
+                params.add(history.getFixedExpenses());
+                params.add(history.getStoreName());
+                params.add(naturalKeyOf(history));
+            }
+
+            inserted += jdbcTemplate.update(sql, params.toArray());
+        }
+        return inserted;
+    }
+
+    // 이미 저장된 자연키는 미리 빼서 반환값이 새로 저장된 행 수가 되도록 함 (동시에 저장된 거래는 ON DUPLICATE KEY 가 흡수)
+    private List<AccountHistory> fresh(List<AccountHistory> batch) {
+        Map<String, AccountHistory> byKey = new LinkedHashMap<>();
+        for (AccountHistory history : batch) {
+            byKey.putIfAbsent(naturalKeyOf(history), history);
+        }
+
+        List<String> stored = jdbcTemplate.queryForList(
+                EXISTING_KEY_SQL.formatted(String.join(", ", Collections.nCopies(byKey.size(), "?"))),
+                String.class, byKey.keySet().toArray());
+        stored.forEach(byKey::remove);
+        return new ArrayList<>(byKey.values());
+    }
+
+    private static String naturalKeyOf(AccountHistory history) {
+        return AccountHistory.naturalKeyOf(history.getAccount().getAccountId(), history.getTransactionDate(), history.getAmount());
+    }
+
+    @Override
+    public int backfillNaturalKeys() {
+        return jdbcTemplate.update(BACKFILL_SQL);
+    }
+}
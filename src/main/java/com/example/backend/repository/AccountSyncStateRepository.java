@@ -0,0 +1,7 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.BANK.AccountSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AccountSyncStateRepository extends JpaRepository<AccountSyncState, Long> {
+}
@@ -0,0 +1,7 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.BUSINESS.MonthlyFinancialSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MonthlyFinancialSummaryRepository extends JpaRepository<MonthlyFinancialSummary, Long>, MonthlyFinancialSummaryRepositoryCustom {
+}
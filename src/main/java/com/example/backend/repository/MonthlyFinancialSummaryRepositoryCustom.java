@@ -0,0 +1,22 @@
+package com.example.backend.repository;
+
+import java.time.YearMonth;
+import java.util.Collection;
+
+public interface MonthlyFinancialSummaryRepositoryCustom {
+
+    // 계좌가 연결된 사업자의 해당 월 스냅샷을 원본에서 다시 집계해서 덮어씀 (마감된 달, 연결된 사업자가 없으면 무시)
+    void refreshAccountMonths(Long accountId, Collection<YearMonth> months);
+
+    // 포스가 연결된 사업자의 해당 월 스냅샷을 다시 집계 (pos_sales_daily 롤업이 먼저 갱신되어 있어야 함)
+    void refreshPosMonths(Long posId, Collection<YearMonth> months);
+
+    // 사업자 하나의 해당 월 스냅샷을 다시 집계 (스냅샷이 아직 없는 달을 처음 조회할 때)
+    void refreshBusinessMonths(Long businessRegistrationId, Collection<YearMonth> months);
+
+    // 사업자에 계좌/포스가 새로 연결되었을 때 마감을 풀고 데이터가 있는 모든 월을 다시 집계 (다음 마감 작업에서 다시 마감됨)
+    void refreshBusiness(Long businessRegistrationId);
+
+    // month 이전 달의 스냅샷을 마감 / 새로 마감된 행 수 반환
+    int closeMonthsBefore(YearMonth month);
+}
@@ -0,0 +1,186 @@
+package com.example.backend.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+@RequiredArgsConstructor
+public class MonthlyFinancialSummaryRepositoryImpl implements MonthlyFinancialSummaryRepositoryCustom {
+
+    private static final String FIND_TENANT_SQL = """
+            SELECT business_registration_id, account_id, pos_id FROM business_registration
+            """;
+
+    // (account_id, transaction_type, transaction_date, category, amount) 커버링 인덱스로 한 달치만 집계
+    private static final String ACCOUNT_TOTALS_SQL = """
+            SELECT transaction_type, IFNULL(category, ''), IFNULL(SUM(amount), 0)
+            FROM account_history
+            WHERE account_id = ? AND transaction_type IN ('REVENUE', 'EXPENSE')
+              AND transaction_date >= ? AND transaction_date < ?
+            GROUP BY transaction_type, IFNULL(category, '')
+            """;
+
+    private static final String POS_TOTAL_SQL = """
+            SELECT IFNULL(SUM(total_sales), 0) FROM pos_sales_daily
+            WHERE pos_id = ? AND sales_date >= ? AND sales_date < ?
+            """;
+
+    private static final String ACCOUNT_MONTHS_SQL = """
+            SELECT DISTINCT DATE_FORMAT(transaction_date, '%Y-%m') FROM account_history
+            WHERE account_id = ? AND transaction_date IS NOT NULL
+            """;
+
+    private static final String POS_MONTHS_SQL = """
+            SELECT DISTINCT DATE_FORMAT(sales_date, '%Y-%m') FROM pos_sales_daily
+            WHERE pos_id = ?
+            """;
+
+    // 마감된 행은 그대로 두고 나머지만 덮어씀
+    private static final String UPSERT_SQL = """
+            INSERT INTO monthly_financial_summary
+                (business_registration_id, summary_month, revenue, expense, net_profit, pos_revenue, category_expenses, closed, refreshed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, ?)
+            ON DUPLICATE KEY UPDATE
+                revenue = IF(closed, revenue, VALUES(revenue)),
+                expense = IF(closed, expense, VALUES(expense)),
+                net_profit = IF(closed, net_profit, VALUES(net_profit)),
+                pos_revenue = IF(closed, pos_revenue, VALUES(pos_revenue)),
+                category_expenses = IF(closed, category_expenses, VALUES(category_expenses)),
+                refreshed_at = IF(closed, refreshed_at, VALUES(refreshed_at))""";
+
+    private static final String REOPEN_SQL = """
+            UPDATE monthly_financial_summary SET closed = FALSE
+            WHERE business_registration_id = ? AND closed = TRUE
+            """;
+
+    private static final String CLOSE_SQL = """
+            UPDATE monthly_financial_summary SET closed = TRUE
+            WHERE summary_month < ? AND closed = FALSE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void refreshAccountMonths(Long accountId, Collection<YearMonth> months) {
+        findTenants("account_id", accountId).forEach(tenant -> refresh(tenant, months));
+    }
+
+    @Override
+    public void refreshPosMonths(Long posId, Collection<YearMonth> months) {
+        findTenants("pos_id", posId).forEach(tenant -> refresh(tenant, months));
+    }
+
+    @Override
+    public void refreshBusinessMonths(Long businessRegistrationId, Collection<YearMonth> months) {
+        findTenants("business_registration_id", businessRegistrationId).forEach(tenant -> refresh(tenant, months));
+    }
+
+    @Override
+    public void refreshBusiness(Long businessRegistrationId) {
+        for (Tenant tenant : findTenants("business_registration_id", businessRegistrationId)) {
+            Set<YearMonth> months = new TreeSet<>();
+            if (tenant.accountId() != null) {
+                jdbcTemplate.queryForList(ACCOUNT_MONTHS_SQL, String.class, tenant.accountId())
+                        .forEach(month -> months.add(YearMonth.parse(month)));
+            }
+            if (tenant.posId() != null) {
+                jdbcTemplate.queryForList(POS_MONTHS_SQL, String.class, tenant.posId())
+                        .forEach(month -> months.add(YearMonth.parse(month)));
+            }
+
+            jdbcTemplate.update(REOPEN_SQL, tenant.businessRegistrationId());
+            refresh(tenant, months);
+        }
+    }
+
+    @Override
+    public int closeMonthsBefore(YearMonth month) {
+        return jdbcTemplate.update(CLOSE_SQL, Date.valueOf(month.atDay(1)));
+    }
+
+    private List<Tenant> findTenants(String column, Long id) {
+        if (id == null) {
+            return List.of();
+        }
+        return jdbcTemplate.query(FIND_TENANT_SQL + "WHERE " + column + " = ?",
+                (rs, rowNum) -> new Tenant(
+                        rs.getLong(1),
+                        rs.getObject(2, Long.class),
+                        rs.getObject(3, Long.class)),
+                id);
+    }
+
+    private void refresh(Tenant tenant, Collection<YearMonth> months) {
+        if (months.isEmpty()) {
+            return;
+        }
+
+        Timestamp refreshedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> params = new ArrayList<>();
+        for (YearMonth month : months) {
+            Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+            Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+
+            BigDecimal revenue = BigDecimal.ZERO;
+            BigDecimal expense = BigDecimal.ZERO;
+            Map<String, BigDecimal> categoryExpenses = new TreeMap<>();
+            if (tenant.accountId() != null) {
+                List<CategoryTotal> totals = jdbcTemplate.query(ACCOUNT_TOTALS_SQL,
+                        (rs, rowNum) -> new CategoryTotal(rs.getString(1), rs.getString(2), rs.getBigDecimal(3)),
+                        tenant.accountId(), from, to);
+                for (CategoryTotal total : totals) {
+                    if ("REVENUE".equals(total.transactionType())) {
+                        revenue = revenue.add(total.amount());
+                    } else {
+                        expense = expense.add(total.amount());
+                        categoryExpenses.merge(total.category(), total.amount(), BigDecimal::add);
+                    }
+                }
+            }
+
+            BigDecimal posRevenue = tenant.posId() == null ? BigDecimal.ZERO : jdbcTemplate.queryForObject(POS_TOTAL_SQL,
+                    BigDecimal.class, tenant.posId(), Date.valueOf(month.atDay(1)), Date.valueOf(month.plusMonths(1).atDay(1)));
+
+            params.add(new Object[]{
+                    tenant.businessRegistrationId(),
+                    Date.valueOf(month.atDay(1)),
+                    revenue,
+                    expense,
+                    revenue.subtract(expense),
+                    posRevenue != null ? posRevenue : BigDecimal.ZERO,
+                    toJson(categoryExpenses),
+                    refreshedAt
+            });
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, params);
+    }
+
+    private String toJson(Map<String, BigDecimal> categoryExpenses) {
+        try {
+            return objectMapper.writeValueAsString(categoryExpenses);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카테고리별 지출 직렬화 실패", e);
+        }
+    }
+
+    private record Tenant(Long businessRegistrationId, Long accountId, Long posId) {
+    }
+
+    private record CategoryTotal(String transactionType, String category, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.POS.PosSalesDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PosSalesDailyRepository extends JpaRepository<PosSalesDaily, Long>, PosSalesDailyRepositoryCustom {
+}
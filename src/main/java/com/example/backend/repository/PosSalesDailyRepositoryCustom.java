@@ -0,0 +1,14 @@
+package com.example.backend.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+public interface PosSalesDailyRepositoryCustom {
+
+    // posId 별 일자들의 집계를 pos_sales 원본에서 다시 계산해서 덮어씀 (중복 수집/재시도에도 결과가 같음)
+    void refreshDays(Map<Long, ? extends Collection<LocalDate>> daysByPosId);
+
+    // 전체 pos_sales 로 롤업을 다시 채움 / 반영된 행 수 반환
+    int rebuildAll();
+}
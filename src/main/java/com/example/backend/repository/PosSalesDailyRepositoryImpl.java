@@ -0,0 +1,55 @@
+package com.example.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PosSalesDailyRepositoryImpl implements PosSalesDailyRepositoryCustom {
+
+    private static final String AGGREGATE_SQL = """
+            INSERT INTO pos_sales_daily (pos_id, sales_date, payment_type, total_sales, order_count, vat_amount)
+            SELECT pos_id, DATE(order_time), payment_type, SUM(total_price), COUNT(*), SUM(vat_amount)
+            FROM pos_sales
+            """;
+
+    private static final String ON_DUPLICATE_SQL = """
+             GROUP BY pos_id, DATE(order_time), payment_type
+            ON DUPLICATE KEY UPDATE
+                total_sales = VALUES(total_sales),
+                order_count = VALUES(order_count),
+                vat_amount = VALUES(vat_amount)""";
+
+    // (pos_id, order_time) 인덱스 범위로 하루치만 다시 집계
+    private static final String REFRESH_DAY_SQL = AGGREGATE_SQL
+            + "WHERE pos_id = ? AND order_time >= ? AND order_time < ?" + ON_DUPLICATE_SQL;
+
+    private static final String REBUILD_SQL = AGGREGATE_SQL + ON_DUPLICATE_SQL;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void refreshDays(Map<Long, ? extends Collection<LocalDate>> daysByPosId) {
+        List<Object[]> params = new ArrayList<>();
+        daysByPosId.forEach((posId, days) -> days.forEach(day -> params.add(new Object[]{
+                posId,
+                Timestamp.valueOf(day.atStartOfDay()),
+                Timestamp.valueOf(day.plusDays(1).atStartOfDay())
+        })));
+
+        if (!params.isEmpty()) {
+            jdbcTemplate.batchUpdate(REFRESH_DAY_SQL, params);
+        }
+    }
+
+    @Override
+    public int rebuildAll() {
+        return jdbcTemplate.update(REBUILD_SQL);
+    }
+}
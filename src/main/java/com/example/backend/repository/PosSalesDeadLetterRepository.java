@@ -0,0 +1,13 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.POS.PosSalesDeadLetter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PosSalesDeadLetterRepository extends JpaRepository<PosSalesDeadLetter, Long> {
+
+    // 오래된 것부터 limit 건
+    List<PosSalesDeadLetter> findAllByOrderByFailedAtAsc(Pageable pageable);
+}
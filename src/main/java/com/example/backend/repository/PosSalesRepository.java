@@ -3,12 +3,19 @@ package com.example.backend.repository;
 
 import com.example.backend.model.POS.Pos;
 import com.example.backend.model.POS.PosSales;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
-public interface PosSalesRepository extends JpaRepository<PosSales, Long> {
+public interface PosSalesRepository extends JpaRepository<PosSales, Long>, PosSalesRepositoryCustom {
     boolean existsByOrderTimeAndPosId(LocalDateTime orderTime, Pos posId);
 
-    boolean existsByOrderTimeAndProductName(LocalDateTime orderDate, String productName);
+    // POS 주문 대사 커서 (before 이전에 주문된 마지막 주문의 ID / (pos_id, order_time) 인덱스를 역순으로 읽음)
+    @Query("select p.externalOrderId from PosSales p where p.posId.posId = :posId and p.orderTime < :before"
+            + " and p.externalOrderId is not null order by p.orderTime desc")
+    List<Long> findOrderIdsBefore(@Param("posId") Long posId, @Param("before") LocalDateTime before, Pageable pageable);
 }
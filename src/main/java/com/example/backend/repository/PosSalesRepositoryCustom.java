@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.POS.PosSales;
+
+import java.util.List;
+
+public interface PosSalesRepositoryCustom {
+
+    // (pos_id, external_order_id) 유니크 인덱스 기준으로 중복은 건너뛰고 저장 (그 외 제약 위반은 예외) / 새로 저장된 행 수 반환
+    int insertIgnoreDuplicates(List<PosSales> sales);
+
+    // 주문 ID 가 비어 있는 기존 행 (컬럼 추가 이전 데이터) 과 (POS, 주문 시간, 상품) 이 같은 매출은 그 행에 주문 ID 만 채움
+    // 기존 행이 남아 있는 POS 에서만 동작 / 새로 저장해야 하는 나머지 매출 반환
+    List<PosSales> adoptLegacyRows(List<PosSales> sales);
+}
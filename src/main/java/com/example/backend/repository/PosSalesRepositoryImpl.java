@@ -0,0 +1,152 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.POS.PosSales;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class PosSalesRepositoryImpl implements PosSalesRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO pos_sales
+                (pos_id, external_order_id, order_time, total_price, vat_amount, product_name, quantity, order_status, payment_type, payment_status)
+            VALUES\s""";
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 유니크 키 중복만 흡수 (IGNORE 와 달리 FK / NOT NULL 위반은 오류로 올라가서 재시도 / dead-letter 로 감)
+    private static final String ON_DUPLICATE_KEY_SQL = " ON DUPLICATE KEY UPDATE pos_sales_id = pos_sales_id";
+
+    // external_order_id 컬럼 추가 이전에 저장된 행 (주문 ID 가 비어 있음) 이 남아 있는 POS
+    private static final String LEGACY_POS_SQL = """
+            SELECT DISTINCT pos_id FROM pos_sales
+            WHERE external_order_id IS NULL AND pos_id IN (%s)
+            """;
+
+    private static final String EXISTING_ORDER_SQL = """
+            SELECT external_order_id FROM pos_sales
+            WHERE pos_id = ? AND external_order_id IN (%s)
+            """;
+
+    // 같은 (POS, 주문 시간, 상품) 의 기존 행 하나에 주문 ID 를 채움
+    private static final String ADOPT_LEGACY_SQL = """
+            UPDATE pos_sales SET external_order_id = ?
+            WHERE pos_id = ? AND order_time = ? AND product_name = ? AND external_order_id IS NULL
+            LIMIT 1""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // hibernate 설정의 batch_size 를 그대로 사용
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    public int insertIgnoreDuplicates(List<PosSales> sales) {
+        // 이미 저장된 주문은 미리 빼서 반환값이 새로 저장된 행 수가 되도록 함 (동시에 저장된 주문은 ON DUPLICATE KEY 가 흡수)
+        List<PosSales> fresh = new ArrayList<>(sales.size());
+        groupByPosId(sales).forEach((posId, posSales) -> {
+            Set<Long> stored = findStoredOrderIds(posId, posSales);
+            for (PosSales sale : posSales) {
+                if (sale.getExternalOrderId() == null || stored.add(sale.getExternalOrderId())) {
+                    fresh.add(sale);
+                }
+            }
+        });
+
+        int inserted = 0;
+
+        // batch_size 만큼 묶어서 multi-row INSERT 한 번으로 저장
+        for (int from = 0; from < fresh.size(); from += batchSize) {
+            List<PosSales> batch = fresh.subList(from, Math.min(from + batchSize, fresh.size()));
+            String sql = INSERT_SQL + String.join(", ", Collections.nCopies(batch.size(), VALUES_ROW)) + ON_DUPLICATE_KEY_SQL;
+
+            List<Object> params = new ArrayList<>(batch.size() * 10);
+            for (PosSales sale : batch) {
+                params.add(sale.getPosId().getPosId());
+                params.add(sale.getExternalOrderId());
+                params.add(Timestamp.valueOf(sale.getOrderTime()));
+                params.add(sale.getTotalPrice());
+                params.add(sale.getVatAmount());
+                params.add(sale.getProductName());
+                params.add(sale.getQuantity());
+                params.add(sale.getOrderStatus().name());
+                params.add(sale.getPaymentType().name());
+                params.add(sale.getPaymentStatus().name());
+            }
+
+            inserted += jdbcTemplate.update(sql, params.toArray());
+        }
+        return inserted;
+    }
+
+    @Override
+    public List<PosSales> adoptLegacyRows(List<PosSales> sales) {
+        if (sales.isEmpty()) {
+            return sales;
+        }
+        Map<Long, List<PosSales>> salesByPosId = groupByPosId(sales);
+
+        List<Long> legacyPosIds = jdbcTemplate.queryForList(LEGACY_POS_SQL.formatted(placeholders(salesByPosId.size())),
+                Long.class, salesByPosId.keySet().toArray());
+        if (legacyPosIds.isEmpty()) {
+            return sales;
+        }
+
+        List<PosSales> remaining = new ArrayList<>(sales.size());
+        salesByPosId.forEach((posId, posSales) -> {
+            if (!legacyPosIds.contains(posId)) {
+                remaining.addAll(posSales);
+                return;
+            }
+
+            // 이미 주문 ID 로 저장된 주문은 INSERT 에서 중복으로 걸러지므로 기존 행에 채우지 않음 (채우면 유니크 위반)
+            Set<Long> stored = findStoredOrderIds(posId, posSales);
+
+            for (PosSales sale : posSales) {
+                Long orderId = sale.getExternalOrderId();
+                // 채워지면 이 주문 ID 도 저장된 것으로 보고, 같은 배치 안의 같은 주문은 INSERT 로 넘김
+                boolean adopted = orderId != null && stored.add(orderId) && jdbcTemplate.update(ADOPT_LEGACY_SQL,
+                        orderId, posId, Timestamp.valueOf(sale.getOrderTime()), sale.getProductName()) > 0;
+                if (!adopted) {
+                    remaining.add(sale);
+                }
+            }
+        });
+        return remaining;
+    }
+
+    private Map<Long, List<PosSales>> groupByPosId(List<PosSales> sales) {
+        return sales.stream()
+                .collect(Collectors.groupingBy(sale -> sale.getPosId().getPosId(), LinkedHashMap::new, Collectors.toList()));
+    }
+
+    // (pos_id, external_order_id) 유니크 인덱스로 이미 저장된 주문 ID 조회
+    private Set<Long> findStoredOrderIds(Long posId, List<PosSales> sales) {
+        List<Long> orderIds = sales.stream().map(PosSales::getExternalOrderId).filter(Objects::nonNull).distinct().toList();
+        if (orderIds.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        List<Object> params = new ArrayList<>(orderIds.size() + 1);
+        params.add(posId);
+        params.addAll(orderIds);
+        return new HashSet<>(jdbcTemplate.queryForList(EXISTING_ORDER_SQL.formatted(placeholders(orderIds.size())),
+                Long.class, params.toArray()));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.BANK.RegionExpenseMonthly;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RegionExpenseMonthlyRepository extends JpaRepository<RegionExpenseMonthly, Long>, RegionExpenseMonthlyRepositoryCustom {
+}
@@ -0,0 +1,16 @@
+package com.example.backend.repository;
+
+import java.time.YearMonth;
+import java.util.Collection;
+
+public interface RegionExpenseMonthlyRepositoryCustom {
+
+    // 계좌가 연결된 사업장 지역의 해당 월 집계를 account_history 원본에서 다시 계산해서 덮어씀 (연결된 사업자가 없으면 무시)
+    void refreshAccountMonths(Long accountId, Collection<YearMonth> months);
+
+    // 계좌에 지출이 있는 모든 월에 대해 refreshAccountMonths (사업자에 계좌가 새로 연결되었을 때)
+    void refreshAccount(Long accountId);
+
+    // 전체 account_history 로 롤업을 다시 채움 / 반영된 행 수 반환
+    int rebuildAll();
+}
@@ -0,0 +1,91 @@
+package com.example.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class RegionExpenseMonthlyRepositoryImpl implements RegionExpenseMonthlyRepositoryCustom {
+
+    private static final String FIND_REGION_SQL = """
+            SELECT region FROM business_registration
+            WHERE account_id = ? AND region IS NOT NULL
+            """;
+
+    private static final String FIND_MONTHS_SQL = """
+            SELECT DISTINCT DATE_FORMAT(transaction_date, '%Y-%m') FROM account_history
+            WHERE account_id = ? AND transaction_type = 'EXPENSE' AND transaction_date IS NOT NULL
+            """;
+
+    private static final String ON_DUPLICATE_SQL = """
+            ON DUPLICATE KEY UPDATE
+                total_amount = VALUES(total_amount),
+                expense_count = VALUES(expense_count)""";
+
+    // 지역 (region, account_id) 인덱스로 사업장을 찾고 계좌별 한 달치 지출만 다시 집계
+    private static final String REFRESH_MONTH_SQL = """
+            INSERT INTO region_expense_monthly (region, expense_month, category, total_amount, expense_count)
+            SELECT br.region, ?, IFNULL(ah.category, ''), IFNULL(SUM(ah.amount), 0), COUNT(*)
+            FROM business_registration br
+            JOIN account_history ah ON ah.account_id = br.account_id
+            WHERE br.region = ?
+              AND ah.transaction_type = 'EXPENSE'
+              AND ah.transaction_date >= ? AND ah.transaction_date < ?
+            GROUP BY br.region, IFNULL(ah.category, '')
+            """ + ON_DUPLICATE_SQL;
+
+    private static final String REBUILD_SQL = """
+            INSERT INTO region_expense_monthly (region, expense_month, category, total_amount, expense_count)
+            SELECT br.region, DATE_FORMAT(ah.transaction_date, '%Y-%m-01'), IFNULL(ah.category, ''), IFNULL(SUM(ah.amount), 0), COUNT(*)
+            FROM business_registration br
+            JOIN account_history ah ON ah.account_id = br.account_id
+            WHERE br.region IS NOT NULL
+              AND ah.transaction_type = 'EXPENSE'
+              AND ah.transaction_date IS NOT NULL
+            GROUP BY br.region, DATE_FORMAT(ah.transaction_date, '%Y-%m-01'), IFNULL(ah.category, '')
+            """ + ON_DUPLICATE_SQL;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void refreshAccountMonths(Long accountId, Collection<YearMonth> months) {
+        if (months.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> params = new ArrayList<>();
+        for (String region : jdbcTemplate.queryForList(FIND_REGION_SQL, String.class, accountId)) {
+            for (YearMonth month : months) {
+                params.add(new Object[]{
+                        Date.valueOf(month.atDay(1)),
+                        region,
+                        Timestamp.valueOf(month.atDay(1).atStartOfDay()),
+                        Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay())
+                });
+            }
+        }
+
+        if (!params.isEmpty()) {
+            jdbcTemplate.batchUpdate(REFRESH_MONTH_SQL, params);
+        }
+    }
+
+    @Override
+    public void refreshAccount(Long accountId) {
+        List<YearMonth> months = jdbcTemplate.queryForList(FIND_MONTHS_SQL, String.class, accountId).stream()
+                .map(YearMonth::parse)
+                .toList();
+        refreshAccountMonths(accountId, months);
+    }
+
+    @Override
+    public int rebuildAll() {
+        return jdbcTemplate.update(REBUILD_SQL);
+    }
+}
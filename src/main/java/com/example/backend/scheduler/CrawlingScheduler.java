@@ -3,20 +3,33 @@ package com.example.backend.scheduler;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.time.Duration;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.example.backend.service.CardCatalogProvider;
+
+import lombok.RequiredArgsConstructor;
+
 @Component
+@RequiredArgsConstructor
 public class CrawlingScheduler {
+	private final JobCoordinator jobCoordinator;
+	private final CardCatalogProvider cardCatalogProvider;
+
 	@Value("${card.py.file.path:/crawler/card_crawler.py}")
 	private String pythonScriptPath; // Pythen 파일 경로
 	private String pythonCommand = "python"; // 시스템에 설치된 Python 실행 경로
 
 	@Scheduled(cron = "0 0 9 * * MON") // 매주 월요일 오전 9시
 	public void runPythonScript() {
-		
+		// 여러 노드 중 하나만 크롤링
+		jobCoordinator.runWithLease("card-crawler", Duration.ofHours(1), this::crawl);
+	}
+
+	private void crawl() {
 		try {
 			ProcessBuilder processBuilder = new ProcessBuilder(pythonCommand, pythonScriptPath);
 			processBuilder.redirectErrorStream(true);
@@ -33,6 +46,8 @@ public class CrawlingScheduler {
 			int exitCode = process.waitFor();
 			if (exitCode == 0) {
 				System.out.println("Python 스크립트가 성공적으로 실행되었습니다.");
+				// 새 card_data.json 을 검증 후 카드 카탈로그에 반영 (실패 시 이전 버전 유지)
+				cardCatalogProvider.reload();
 			} else {
 				System.err.println("Python 스크립트 실행 실패. 종료 코드: " + exitCode);
 			}
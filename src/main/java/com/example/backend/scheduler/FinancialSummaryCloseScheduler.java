@@ -0,0 +1,19 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.BUSINESS.FinancialSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FinancialSummaryCloseScheduler {
+
+    private final FinancialSummaryService financialSummaryService;
+
+    // 매일 새벽에 유예 기간이 지난 달의 손익 스냅샷을 마감 (이미 마감된 달은 건드리지 않음)
+    @Scheduled(cron = "${finance.summary.close-cron:0 30 0 * * *}")
+    public void closeFinishedMonths() {
+        financialSummaryService.closeFinishedMonths();
+    }
+}
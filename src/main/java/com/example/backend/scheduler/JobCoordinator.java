@@ -0,0 +1,150 @@
+package com.example.backend.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//////////// 스케줄 작업 조율
+/// 1. runIfIdle: 같은 작업이 이 노드에서 실행 중이면 건너뜀
+/// 2. runWithLease: 1 + Redis lease(SET NX PX)를 잡은 노드 하나만 실행
+/// 3. ownsShard: 살아있는 노드 목록(Redis ZSET heartbeat) 기준으로 key % 노드수 == 내 순번 인 작업만 처리
+/// Redis 장애 시에는 단일 노드처럼 동작 (수집은 유니크 키 중복을 건너뛰므로 중복 실행되어도 안전)
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobCoordinator {
+
+    private static final String LEASE_KEY_PREFIX = "scheduler:lease:";
+    private static final String NODES_KEY = "scheduler:nodes";
+
+    // lease 를 잡은 노드일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // heartbeat 가 이 시간 이상 끊긴 노드는 샤드 배정에서 제외
+    @Value("${scheduler.node-ttl-ms:30000}")
+    private long nodeTtlMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, AtomicBoolean> runningJobs = new ConcurrentHashMap<>();
+
+    private volatile int shardIndex = 0;
+    private volatile int shardCount = 1;
+
+    @PostConstruct
+    public void register() {
+        heartbeat();
+    }
+
+    @PreDestroy
+    public void unregister() {
+        try {
+            stringRedisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("스케줄러 노드 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    // 이 노드에서 실행 중이 아니면 실행 (실행했으면 true)
+    public boolean runIfIdle(String jobName, Runnable job) {
+        AtomicBoolean running = runningJobs.computeIfAbsent(jobName, name -> new AtomicBoolean(false));
+        if (!running.compareAndSet(false, true)) {
+            log.debug("이미 실행 중인 작업이라 건너뜀: {}", jobName);
+            return false;
+        }
+        try {
+            job.run();
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 클러스터 전체에서 한 노드만 실행 (lease 를 못 잡으면 false)
+    public boolean runWithLease(String jobName, Duration leaseTime, Runnable job) {
+        return runIfIdle(jobName, () -> {
+            String leaseKey = LEASE_KEY_PREFIX + jobName;
+            if (!acquireLease(leaseKey, leaseTime)) {
+                log.debug("다른 노드가 lease 를 보유 중이라 건너뜀: {}", jobName);
+                return;
+            }
+            try {
+                job.run();
+            } finally {
+                releaseLease(leaseKey);
+            }
+        });
+    }
+
+    // key 가 이 노드의 담당 샤드인지 여부
+    public boolean ownsShard(long key) {
+        return Math.floorMod(key, shardCount) == shardIndex;
+    }
+
+    // 노드 생존 신호 갱신 및 샤드 배정 재계산
+    @Scheduled(fixedRateString = "${scheduler.heartbeat-ms:10000}")
+    public void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            stringRedisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+            stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - nodeTtlMs);
+
+            Set<String> members = stringRedisTemplate.opsForZSet().range(NODES_KEY, 0, -1);
+            List<String> nodes = members != null ? new ArrayList<>(members) : new ArrayList<>();
+            Collections.sort(nodes);
+
+            int index = nodes.indexOf(nodeId);
+            if (index < 0) {
+                shardIndex = 0;
+                shardCount = 1;
+            } else {
+                shardIndex = index;
+                shardCount = nodes.size();
+            }
+        } catch (Exception e) {
+            log.warn("스케줄러 heartbeat 실패, 단일 노드로 동작: {}", e.getMessage());
+            shardIndex = 0;
+            shardCount = 1;
+        }
+    }
+
+    private boolean acquireLease(String leaseKey, Duration leaseTime) {
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey, nodeId, leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("lease 획득 실패, 로컬에서 실행: {} ({})", leaseKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLease(String leaseKey) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), nodeId);
+        } catch (Exception e) {
+            log.warn("lease 해제 실패: {} ({})", leaseKey, e.getMessage());
+        }
+    }
+}
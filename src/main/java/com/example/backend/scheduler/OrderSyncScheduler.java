@@ -1,6 +1,7 @@
 package com.example.backend.scheduler;
 
 import com.example.backend.service.POS.OrderSyncService;
+import com.example.backend.service.POS.PosSalesService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -10,9 +11,19 @@ import org.springframework.stereotype.Component;
 public class OrderSyncScheduler {
 
     private final OrderSyncService orderSyncService;
+    private final PosSalesService posSalesService;
 
-    @Scheduled(fixedRate = 10000)
+    // 매출은 POS 가 /api/pos-sales/save 로 push 하므로, 폴링은 최근 구간을 다시 받아 누락분을 메우는 대사 용도로만 드물게 실행
+    @Scheduled(fixedDelayString = "${pos.sync.reconcile-interval-ms:600000}",
+            initialDelayString = "${pos.sync.initial-delay-ms:60000}")
     public void syncOrders() {
         orderSyncService.syncOrders();
     }
+
+    // 재시도 후에도 저장하지 못한 push 매출을 주기적으로 다시 저장
+    @Scheduled(fixedDelayString = "${pos.ingest.dead-letter.redrive-interval-ms:300000}",
+            initialDelayString = "${pos.sync.initial-delay-ms:60000}")
+    public void redriveDeadLetters() {
+        posSalesService.redriveDeadLetters();
+    }
 }
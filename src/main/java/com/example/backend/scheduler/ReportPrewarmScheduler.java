@@ -0,0 +1,19 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.BUSINESS.ReportPrewarmService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReportPrewarmScheduler {
+
+    private final ReportPrewarmService reportPrewarmService;
+
+    // 매일 새벽에 지난달 리포트 미리 생성 (월초 첫 실행에서 대부분 끝나고, 이후 실행은 중단된 곳부터 이어서 / 완료된 달은 바로 종료)
+    @Scheduled(cron = "${report.prewarm.cron:0 0 3 * * *}")
+    public void prewarmReports() {
+        reportPrewarmService.prewarmPreviousMonth();
+    }
+}
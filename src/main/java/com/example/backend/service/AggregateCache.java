@@ -0,0 +1,95 @@
+package com.example.backend.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+//////////// 요청 단위 집계 캐시
+/// 1. 한 요청 (또는 리포트 생성 작업) 안에서 같은 (테넌트, 지표, 기간) 집계는 한 번만 계산하고 이후에는 결과를 재사용
+/// 2. 웹 요청은 AggregateCacheFilter, reportExecutor 작업은 TaskDecorator 가 범위를 열고 닫음 (스레드마다 따로)
+/// 3. 범위 밖 (스케줄러, 수집 등) 에서는 캐시 없이 매번 계산
+/// 4. 같은 범위의 호출들이 결과 객체를 공유하므로 반환값을 수정하지 않음
+
+@Component
+public class AggregateCache {
+
+    private static final ThreadLocal<Map<AggregateKey, Object>> SCOPE = new ThreadLocal<>();
+
+    // 범위 열기 (이미 열려 있으면 바깥 범위를 그대로 사용하고 닫을 때도 건드리지 않음)
+    public Scope open() {
+        if (SCOPE.get() != null) {
+            return () -> { };
+        }
+        SCOPE.set(new HashMap<>());
+        return SCOPE::remove;
+    }
+
+    // 범위 안에서 work 실행 (웹 요청 / reportExecutor 밖에서 여러 집계를 묶어 부를 때)
+    public <T> T within(Supplier<T> work) {
+        try (Scope ignored = open()) {
+            return work.get();
+        }
+    }
+
+    // 작업마다 새 범위를 여는 TaskDecorator
+    public Runnable decorate(Runnable task) {
+        return () -> {
+            try (Scope ignored = open()) {
+                task.run();
+            }
+        };
+    }
+
+    // (tenant, metric, period) 집계 결과 (범위 안에서 처음 요청될 때만 compute 실행, null 결과도 재사용)
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object tenant, String metric, Object period, Supplier<T> compute) {
+        Map<AggregateKey, Object> values = SCOPE.get();
+        if (values == null) {
+            return compute.get();
+        }
+
+        AggregateKey key = new AggregateKey(tenant, metric, period);
+        if (values.containsKey(key)) {
+            return (T) values.get(key);
+        }
+        // 계산 중에 다른 집계를 부를 수 있어서 computeIfAbsent 대신 계산 후 저장
+        T value = compute.get();
+        values.put(key, value);
+        return value;
+    }
+
+    // 여러 기간을 한 번에 조회 (범위에 없는 기간만 모아서 computeMissing 한 번으로 계산, 요청한 순서 유지)
+    @SuppressWarnings("unchecked")
+    public <P, T> Map<P, T> getAll(Object tenant, String metric, Collection<P> periods, Function<List<P>, Map<P, T>> computeMissing) {
+        Map<AggregateKey, Object> values = SCOPE.get();
+        if (values == null) {
+            return computeMissing.apply(List.copyOf(periods));
+        }
+
+        List<P> missing = periods.stream()
+                .filter(period -> !values.containsKey(new AggregateKey(tenant, metric, period)))
+                .toList();
+        if (!missing.isEmpty()) {
+            Map<P, T> computed = computeMissing.apply(missing);
+            missing.forEach(period -> values.put(new AggregateKey(tenant, metric, period), computed.get(period)));
+        }
+
+        Map<P, T> result = new LinkedHashMap<>();
+        periods.forEach(period -> result.put(period, (T) values.get(new AggregateKey(tenant, metric, period))));
+        return result;
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private record AggregateKey(Object tenant, String metric, Object period) {
+    }
+}
@@ -2,33 +2,59 @@ package com.example.backend.service.BANK;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
 import java.time.YearMonth;
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import com.example.backend.dto.account.*;
 import com.example.backend.model.BANK.Account;
 import com.example.backend.model.BANK.AccountHistory;
+import com.example.backend.model.BANK.AccountSyncState;
 import com.example.backend.model.BANK.QAccount;
 import com.example.backend.model.BANK.QAccountHistory;
+import com.example.backend.model.BANK.QRegionExpenseMonthly;
 import com.example.backend.model.BUSINESS.QBusinessRegistration;
-import com.example.backend.model.QMember;
 import com.example.backend.repository.AccountHistoryRepository;
 import com.example.backend.repository.AccountRepository;
+import com.example.backend.repository.AccountSyncStateRepository;
+import com.example.backend.repository.MonthlyFinancialSummaryRepository;
+import com.example.backend.repository.RegionExpenseMonthlyRepository;
+import com.example.backend.scheduler.JobCoordinator;
+import com.example.backend.service.BUSINESS.FinancialSummaryService;
+import com.example.backend.service.AggregateCache;
+import com.example.backend.service.TenantContextService;
+import com.example.backend.util.BucketUnit;
+import com.example.backend.util.DateBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.example.backend.exception.base_exceptions.BadRequestException;
 import com.example.backend.model.BUSINESS.BusinessRegistration;
+import com.example.backend.model.BUSINESS.MonthlyFinancialSummary;
 
 import com.example.backend.model.enumSet.TransactionTypeEnum;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -43,20 +69,11 @@ public class AccountService {
     private final JPAQueryFactory queryFactory;
     private final AccountHistoryRepository accountHistoryRepository;
     private final AccountRepository accountRepository;
+    private final TenantContextService tenantContextService;
 
     // 로그인한 유저의 accountId를 가져오는 로직
     private Long getAccountIdByMemberId(Long memberId) {
-        QAccount qAccount = QAccount.account;
-        QBusinessRegistration qBusinessRegistration = QBusinessRegistration.businessRegistration;
-        QMember qMember = QMember.member;
-
-        Long accountId = queryFactory
-                .select(qAccount.accountId)
-                .from(qMember)
-                .join(qMember.businessRegistration, qBusinessRegistration)
-                .join(qBusinessRegistration.account, qAccount)
-                .where(qMember.memberId.eq(memberId))
-                .fetchOne();
+        Long accountId = tenantContextService.resolve(memberId).getAccountId();
 
         if (accountId == null) {
             throw new BadRequestException("해당 사용자는 계좌가 없습니다.");
@@ -68,14 +85,31 @@ public class AccountService {
     @Qualifier("webClient8081")
     private final WebClient webClient;
 
-    @Value("${bank.api.url}")
-    private String bankApiUrl;
-
-    // 외부 API 호출하여 sendToMainDTO 데이터 가져오기
-    public sendToMainDTO fetchAccountAndHistoryFromBank() {
+    private final AccountSyncStateRepository accountSyncStateRepository;
+    private final RegionExpenseMonthlyRepository regionExpenseMonthlyRepository;
+    private final MonthlyFinancialSummaryRepository monthlyFinancialSummaryRepository;
+    private final FinancialSummaryService financialSummaryService;
+    private final AggregateCache aggregateCache;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final JobCoordinator jobCoordinator;
+
+    // webClient8081 기준 은행 API 경로
+    @Value("${bank.api.path:/api/bank}")
+    private String bankApiPath;
+
+    // 한 번의 트랜잭션으로 저장할 거래내역 수
+    @Value("${bank.sync.chunk-size:500}")
+    private int syncChunkSize;
+
+    // 외부 API 호출하여 sendToMainDTO 데이터 가져오기 (accountId, since 가 있으면 해당 계좌의 since 이후 거래만 요청)
+    public sendToMainDTO fetchAccountAndHistoryFromBank(Long accountId, LocalDateTime since) {
         try {
             return webClient.post()
-                    .uri(bankApiUrl + "/send/account")
+                    .uri(uriBuilder -> uriBuilder.path(bankApiPath + "/send/account")
+                            .queryParamIfPresent("accountId", Optional.ofNullable(accountId))
+                            .queryParamIfPresent("since", Optional.ofNullable(since))
+                            .build())
                     .retrieve()
                     .bodyToMono(sendToMainDTO.class)
                     .block();
@@ -85,143 +119,244 @@ public class AccountService {
         }
     }
 
-    // 10초마다 bank에서 account와 accountHistory 땡겨오기
+    // 10초마다 bank에서 account와 accountHistory 땡겨오기 (계좌별 watermark 이후 거래만 증분 수집)
     @Scheduled(fixedRate = 10000)
     public void updateAccountAndHistory() {
+        jobCoordinator.runIfIdle("bank-sync", this::syncOwnedAccounts);
+    }
+
+    // 이 노드가 담당하는 샤드의 계좌만 수집
+    private void syncOwnedAccounts() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AtomicInteger ingested = new AtomicInteger();
         try {
-            // 외부 API에서 데이터 가져오기
-            sendToMainDTO fetchedData = fetchAccountAndHistoryFromBank();
+            List<Long> accountIds = queryFactory
+                    .select(QAccount.account.accountId)
+                    .from(QAccount.account)
+                    .fetch();
+
+            if (accountIds.isEmpty()) {
+                // 아직 연결된 계좌가 없으면 watermark 없이 전체 수집 (클러스터에서 한 노드만)
+                jobCoordinator.runWithLease("bank-sync-bootstrap", Duration.ofMinutes(1),
+                        () -> ingested.addAndGet(syncAccount(null)));
+            } else {
+                accountIds.stream()
+                        .filter(jobCoordinator::ownsShard)
+                        .forEach(accountId -> ingested.addAndGet(syncAccount(accountId)));
+            }
+        } catch (Exception e) {
+            log.error("Error during updateAccountAndHistory: {}", e.getMessage(), e);
+        } finally {
+            long elapsedNanos = sample.stop(meterRegistry.timer("bank.sync.cycle"));
+            meterRegistry.summary("bank.sync.rows.per.cycle").record(ingested.get());
+            log.info("Account 및 AccountHistory 업데이트 완료 - 저장 {}건, {}ms", ingested.get(), elapsedNanos / 1_000_000);
+        }
+    }
 
-            if (fetchedData == null || fetchedData.getAccountHistory() == null || fetchedData.getAccountHistory().isEmpty()) {
-                log.info("새로운 데이터가 없습니다.");
-                return;
+    // 계좌 하나에 대해 watermark 이후 거래내역을 수집하고 저장한 건수를 반환
+    private int syncAccount(Long accountId) {
+        LocalDateTime watermark = accountId == null ? null : accountSyncStateRepository.findById(accountId)
+                .map(AccountSyncState::getLastTransactionDate)
+                .orElse(null);
+
+        sendToMainDTO fetchedData = fetchAccountAndHistoryFromBank(accountId, watermark);
+        if (fetchedData == null || fetchedData.getAccountHistory() == null || fetchedData.getAccountHistory().isEmpty()) {
+            log.debug("새로운 데이터가 없습니다. accountId: {}", accountId);
+            return 0;
+        }
+
+        // Account 저장
+        Account account = fetchedData.getAccount();
+        if (account != null && !accountRepository.existsById(account.getAccountId())) {
+            accountRepository.save(account);
+            log.info("새로운 Account 저장: {}", account);
+        }
+
+        // 계좌별로 묶어서 watermark 이전 거래는 버림 (bank 가 since 를 무시하는 경우 대비)
+        Map<Long, List<AccountHistory>> historiesByAccount = fetchedData.getAccountHistory().stream()
+                .filter(history -> history.getTransactionDate() != null)
+                .peek(history -> {
+                    if (history.getAccount() == null) {
+                        history.setAccount(account);
+                    }
+                })
+                .filter(history -> history.getAccount() != null && history.getAccount().getAccountId() != null)
+                .collect(Collectors.groupingBy(history -> history.getAccount().getAccountId()));
+
+        int ingested = 0;
+        for (Map.Entry<Long, List<AccountHistory>> entry : historiesByAccount.entrySet()) {
+            List<AccountHistory> histories = entry.getValue().stream()
+                    .filter(history -> watermark == null || !history.getTransactionDate().isBefore(watermark))
+                    .sorted(Comparator.comparing(AccountHistory::getTransactionDate))
+                    .collect(Collectors.toList());
+
+            for (int from = 0; from < histories.size(); from += syncChunkSize) {
+                List<AccountHistory> chunk = histories.subList(from, Math.min(from + syncChunkSize, histories.size()));
+                Integer saved = transactionTemplate.execute(status -> ingestChunk(entry.getKey(), chunk));
+                ingested += saved != null ? saved : 0;
             }
+        }
+
+        meterRegistry.counter("bank.sync.rows.ingested").increment(ingested);
+        return ingested;
+    }
 
-            // Account 저장
-            Account account = fetchedData.getAccount();
-            if (account != null) {
-                boolean accountExists = queryFactory.selectOne()
-                        .from(QAccount.account)
-                        .where(QAccount.account.accountId.eq(account.getAccountId()))
-                        .fetchFirst() != null;
-
-                if (!accountExists) {
-                    accountRepository.save(account);
-                    log.info("새로운 Account 저장: {}", account);
-                } else {
-                    log.info("이미 존재하는 Account, 저장하지 않음: {}", account);
-                }
+    // 청크 단위로 natural_key 유니크 인덱스 기준 중복을 건너뛰며 저장한 뒤 watermark 를 갱신
+    private int ingestChunk(Long accountId, List<AccountHistory> chunk) {
+        LocalDateTime maxDate = chunk.get(chunk.size() - 1).getTransactionDate();
+
+        int saved = accountHistoryRepository.insertIgnoreDuplicates(chunk);
+
+        // 새로 들어온 거래가 있으면 해당 월들의 지역 지출 집계를 다시 계산
+        if (saved > 0) {
+            Set<YearMonth> months = chunk.stream()
+                    .map(history -> YearMonth.from(history.getTransactionDate()))
+                    .collect(Collectors.toSet());
+            regionExpenseMonthlyRepository.refreshAccountMonths(accountId, months);
+            monthlyFinancialSummaryRepository.refreshAccountMonths(accountId, months);
+        }
+
+        AccountSyncState syncState = accountSyncStateRepository.findById(accountId)
+                .orElseGet(() -> new AccountSyncState(accountId, null, null));
+        if (syncState.getLastTransactionDate() == null || maxDate.isAfter(syncState.getLastTransactionDate())) {
+            syncState.setLastTransactionDate(maxDate);
+        }
+        syncState.setLastSyncedAt(LocalDateTime.now());
+        accountSyncStateRepository.save(syncState);
+
+        return saved;
+    }
+
+    // natural_key 컬럼 추가 이전에 저장된 거래내역의 키 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillNaturalKeys() {
+        try {
+            int updated = accountHistoryRepository.backfillNaturalKeys();
+            if (updated > 0) {
+                log.info("AccountHistory natural_key 백필 완료: {}건", updated);
             }
+        } catch (Exception e) {
+            log.error("AccountHistory natural_key 백필 실패: {}", e.getMessage(), e);
+        }
+    }
 
-            // AccountHistory 저장
-            List<AccountHistory> accountHistories = fetchedData.getAccountHistory();
-            for (AccountHistory history : accountHistories) {
-                // QueryDSL로 중복 확인
-                boolean exists = queryFactory.selectOne()
-                        .from(QAccountHistory.accountHistory)
-                        .where(QAccountHistory.accountHistory.transactionDate.eq(history.getTransactionDate())
-                                .and(QAccountHistory.accountHistory.amount.eq(history.getAmount()))
-                                .and(QAccountHistory.accountHistory.account.accountId.eq(history.getAccount().getAccountId())))
-                        .fetchFirst() != null;
-
-                if (!exists) {
-                    accountHistoryRepository.save(history);
-                    log.info("새로운 AccountHistory 저장: {}", history);
-                } else {
-                    log.info("이미 존재하는 AccountHistory, 저장하지 않음: {}", history);
-                }
+    // 지역 정보가 없는 사업장(컬럼 추가 이전 데이터)의 지역을 채우고, 지역 지출 롤업이 비어 있으면 전체를 다시 집계
+    @EventListener(ApplicationReadyEvent.class)
+    public void initRegionExpenseRollup() {
+        try {
+            QBusinessRegistration qBusinessRegistration = QBusinessRegistration.businessRegistration;
+            Integer filled = transactionTemplate.execute(status -> {
+                List<BusinessRegistration> businesses = queryFactory.selectFrom(qBusinessRegistration)
+                        .where(qBusinessRegistration.region.isNull()
+                                .and(qBusinessRegistration.address.isNotNull()))
+                        .fetch();
+                businesses.forEach(business -> business.setRegion(BusinessRegistration.regionOf(business.getAddress())));
+                return businesses.size();
+            });
+            if (filled != null && filled > 0) {
+                log.info("BusinessRegistration region 백필 완료: {}건", filled);
             }
 
-            log.info("Account 및 AccountHistory 업데이트 완료");
+            if (regionExpenseMonthlyRepository.count() == 0) {
+                int rows = regionExpenseMonthlyRepository.rebuildAll();
+                log.info("region_expense_monthly 롤업 초기화 - {}건", rows);
+            }
         } catch (Exception e) {
-            log.error("Error during updateAccountAndHistory: {}", e.getMessage(), e);
+            log.error("지역 지출 롤업 초기화 실패: {}", e.getMessage(), e);
         }
     }
 
-    // 월별 지출 합계 구하는 함수
-    public BigDecimal calculateTotalExpenses(YearMonth month, Long memberId) {
-        Long accountId = getAccountIdByMemberId(memberId);
-        QAccountHistory accountHistory = QAccountHistory.accountHistory;
+    // [from 00:00, to 00:00) 반열린 구간 (컬럼에 함수를 씌우지 않아서 인덱스 범위 검색 가능)
+    private static BooleanExpression inRange(DateTimePath<LocalDateTime> date, LocalDate from, LocalDate toExclusive) {
+        return date.goe(from.atStartOfDay()).and(date.lt(toExclusive.atStartOfDay()));
+    }
 
-        return queryFactory
-                .select(accountHistory.amount.sum())
-                .from(accountHistory)
-                .where(accountHistory.account.accountId.eq(accountId)
-                        .and(accountHistory.transactionType.eq(TransactionTypeEnum.EXPENSE))
-                        .and(accountHistory.transactionDate.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
+    // 매출 원가 / 운영 비용 / 세금으로 묶는 지출 카테고리
+    private static final Set<String> SALE_COST_CATEGORIES = Set.of("재료비", "인건비", "물류비");
+    private static final Set<String> OPERATING_EXPENSE_CATEGORIES = Set.of("임대료", "통신비", "유지보수비", "공과금");
+    private static final Set<String> TAX_CATEGORIES = Set.of("세금");
+
+    // 계좌가 연결된 회원의 월 손익 스냅샷
+    private MonthlyFinancialSummary getMonthlySummary(Long memberId, YearMonth month) {
+        getAccountIdByMemberId(memberId);
+        return financialSummaryService.getMonthlySummary(memberId, month);
     }
 
-    // 월별 총수익 합계 구하는 함수
-    private BigDecimal calculateTotalRevenue(YearMonth month, Long memberId) {
-        Long accountId = getAccountIdByMemberId(memberId);
-        QAccountHistory accountHistory = QAccountHistory.accountHistory;
+    // 스냅샷의 카테고리별 지출 중 categories 에 해당하는 합계
+    private static BigDecimal sumCategories(MonthlyFinancialSummary summary, Set<String> categories) {
+        return summary.getCategoryExpenses().entrySet().stream()
+                .filter(entry -> categories.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
 
-        return queryFactory
-                .select(accountHistory.amount.sum())
-                .from(accountHistory)
-                .where(accountHistory.account.accountId.eq(accountId)
-                        .and(accountHistory.transactionType.eq(TransactionTypeEnum.REVENUE))
-                        .and(accountHistory.transactionDate.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
+    // 월별 지출 합계 구하는 함수 (월 손익 스냅샷 기준)
+    public BigDecimal calculateTotalExpenses(YearMonth month, Long memberId) {
+        return getMonthlySummary(memberId, month).getExpense();
     }
 
+    // 연간 월별 지출 합계 (월 -> 지출, 지출이 없는 달은 빠짐)
+    public Map<Integer, BigDecimal> calculateMonthlyExpensesOfYear(Long accountId, Year year) {
+        return aggregateCache.get(accountId, "account.expense.monthly-of-year", year, () -> queryMonthlyExpensesOfYear(accountId, year));
+    }
 
-    // 월별 카테고리별 지출 합계 구하는 함수
-    public Map<String, BigDecimal> calculateCategoryWiseExpenses(YearMonth month, Long memberId) {
-        Long accountId = getAccountIdByMemberId(memberId);
+    private Map<Integer, BigDecimal> queryMonthlyExpensesOfYear(Long accountId, Year year) {
         QAccountHistory accountHistory = QAccountHistory.accountHistory;
+        NumberExpression<Integer> transactionMonth = accountHistory.transactionDate.month();
 
         return queryFactory
+                .select(transactionMonth, accountHistory.amount.sum())
                 .from(accountHistory)
-                .select(accountHistory.category, accountHistory.amount.sum())
                 .where(accountHistory.account.accountId.eq(accountId)
                         .and(accountHistory.transactionType.eq(TransactionTypeEnum.EXPENSE))
-                        .and(accountHistory.transactionDate.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
-                .groupBy(accountHistory.category)
+                        .and(inRange(accountHistory.transactionDate, year.atDay(1), year.plusYears(1).atDay(1))))
+                .groupBy(transactionMonth)
                 .fetch()
                 .stream()
+                .filter(tuple -> tuple.get(accountHistory.amount.sum()) != null)
                 .collect(Collectors.toMap(
-                        tuple -> tuple.get(accountHistory.category),
-                        tuple -> tuple.get(accountHistory.amount.sum())
-                ));
+                        tuple -> tuple.get(transactionMonth),
+                        tuple -> tuple.get(accountHistory.amount.sum())));
+    }
+
+    // 월별 카테고리별 지출 합계 구하는 함수 (월 손익 스냅샷 기준)
+    public Map<String, BigDecimal> calculateCategoryWiseExpenses(YearMonth month, Long memberId) {
+        return new HashMap<>(getMonthlySummary(memberId, month).getCategoryExpenses());
     }
 
     // 오늘 지출 합계 구하는 함수
     private BigDecimal calculateTodayExpense(Long memberId) {
         Long accountId = getAccountIdByMemberId(memberId);
-        QAccountHistory accountHistory = QAccountHistory.accountHistory;
         LocalDate today = LocalDate.now();
+        return aggregateCache.get(accountId, "account.expense.daily", today, () -> queryDailyExpense(accountId, today));
+    }
+
+    private BigDecimal queryDailyExpense(Long accountId, LocalDate today) {
+        QAccountHistory accountHistory = QAccountHistory.accountHistory;
 
         return queryFactory
                 .select(accountHistory.amount.sum())
                 .from(accountHistory)
                 .where(accountHistory.account.accountId.eq(accountId)
                         .and(accountHistory.transactionType.eq(TransactionTypeEnum.EXPENSE))
-                        .and(accountHistory.transactionDate.year().eq(today.getYear()))
-                        .and(accountHistory.transactionDate.month().eq(today.getMonthValue()))
-                        .and(accountHistory.transactionDate.dayOfMonth().eq(today.getDayOfMonth())))
+                        .and(inRange(accountHistory.transactionDate, today, today.plusDays(1))))
                 .fetchOne();
     }
 
     // 월별 상세 지출 정보 가져오는 함수
     public List<ExpenseDetailDTO.ExpenseDetail> getExpenseDetails(YearMonth month, Long memberId) {
         Long accountId = getAccountIdByMemberId(memberId);
+        return aggregateCache.get(accountId, "account.expense.details", month, () -> queryExpenseDetails(accountId, month));
+    }
+
+    private List<ExpenseDetailDTO.ExpenseDetail> queryExpenseDetails(Long accountId, YearMonth month) {
         QAccountHistory accountHistory = QAccountHistory.accountHistory;
 
         return queryFactory
                 .selectFrom(accountHistory)
                 .where(accountHistory.account.accountId.eq(accountId)
                         .and(accountHistory.transactionType.eq(TransactionTypeEnum.EXPENSE))
-                        .and(accountHistory.transactionDate.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
+                        .and(inRange(accountHistory.transactionDate, month.atDay(1), month.plusMonths(1).atDay(1))))
                 .orderBy(accountHistory.transactionDate.desc())
                 .fetch()
                 .stream()
@@ -263,203 +398,103 @@ public class AccountService {
         );
     }
 
-    ////// 순 이익 (총수익 - 총지출)
+    ////// 순 이익 (총수익 - 총지출, 월 손익 스냅샷 기준)
     public BigDecimal showNetProfit(Long memberId, YearMonth month) {
-        // 총수익 계산
-        BigDecimal totalRevenue = calculateTotalRevenue(month, memberId);
-        if (totalRevenue == null) totalRevenue = BigDecimal.ZERO;
-
-        // 총지출 계산 (세금)
-        BigDecimal totalExpenses = calculateTotalExpenses(month, memberId);
-        if (totalExpenses == null) totalExpenses = BigDecimal.ZERO;
-
-        // 순이익 = 총수익 - 총지출
-        return totalRevenue.subtract(totalExpenses);
+        return getMonthlySummary(memberId, month).getNetProfit();
     }
 
-    /////// 순이익 상세
+    /////// 순이익 상세 (월 손익 스냅샷의 카테고리별 지출로 계산)
     public ProfitDetailDTO showProfitDetail(Long memberId, YearMonth month) {
-        Long accountId = getAccountIdByMemberId(memberId);
-        QAccountHistory accountHistory = QAccountHistory.accountHistory;
-
-        LocalDate startDate = month.atDay(1); // 해당 월의 첫째 날
-        LocalDate endDate = month.atEndOfMonth(); // 해당 월의 마지막 날
-
-        // 순 이익
-        BigDecimal netProfit = showNetProfit(memberId, month);
-        // 총 수입
-        BigDecimal incomeTotal = calculateTotalRevenue(month, memberId);
-
-        // 원자재비 (지출에서 카테고리가 '재료비', '인건비,', '물류비')
-        BigDecimal saleCost = queryFactory
-                .select(accountHistory.amount.sum())
-                .from(accountHistory)
-                .where(accountHistory.account.accountId.eq(accountId)
-                        .and(accountHistory.transactionType.eq(TransactionTypeEnum.EXPENSE))
-                        .and(accountHistory.category.in("재료비", "인건비", "물류비"))
-                        .and(accountHistory.transactionDate.between(startDate.atStartOfDay(), endDate.atTime(23, 59, 59))))
-                .fetchOne();
-
-        // 운영 비용 (지출에서 카테고리가 '임대료', '통신비', '유지보수비', '공과금')
-        BigDecimal operatingExpense = queryFactory
-                .select(accountHistory.amount.sum())
-                .from(accountHistory)
-                .where(accountHistory.account.accountId.eq(accountId)
-                        .and(accountHistory.transactionType.eq(TransactionTypeEnum.EXPENSE))
-                        .and(accountHistory.category.in("임대료", "통신비", "유지보수비", "공과금"))
-                        .and(accountHistory.transactionDate.between(startDate.atStartOfDay(), endDate.atTime(23, 59, 59))))
-                .fetchOne();
-
-
-        // 세금 (지출에서 카테고리가 '세금', 매출의 '부가세' vat_amount)
-        // 1. accountHistory에서 '세금' 항목의 합계 구하기
-        BigDecimal accountTaxes = queryFactory
-                .select(accountHistory.amount.sum())
-                .from(accountHistory)
-                .where(accountHistory.account.accountId.eq(accountId)
-                        .and(accountHistory.transactionType.eq(TransactionTypeEnum.EXPENSE))
-                        .and(accountHistory.category.eq("세금"))
-                        .and(accountHistory.transactionDate.between(startDate.atStartOfDay(), endDate.atTime(23, 59, 59))))
-                .fetchOne();
-//        // 2. posSales에서 vatAmount 항목의 합계 구하기
-//        BigDecimal posVatAmount = queryFactory
-//                .select(posSales.vatAmount.sum())
-//                .from(posSales)
-//                .join(posSales.pos, pos)
-//                .where(pos.posId.eq(posSales.pos.posId)
-//                        .and(pos.account.accountId.eq(accountId))
-//                        .and(posSales.saleDate.between(startDate.atStartOfDay(), endDate.atTime(23, 59, 59))))
-//                .fetchOne();
-        // 합산 (null 은 0으로 )
-        if (accountTaxes == null) accountTaxes = BigDecimal.ZERO;
-        // if (posVatAmount == null) posVatAmount = BigDecimal.ZERO;
-
-        // 3. 두 항목을 더하여 최종 세금 계산
-        BigDecimal taxes = accountTaxes;
-
+        MonthlyFinancialSummary summary = getMonthlySummary(memberId, month);
 
         return new ProfitDetailDTO(
-                netProfit,
-                incomeTotal,
-                saleCost,
-                operatingExpense,
-                taxes
+                summary.getNetProfit(), // 순 이익
+                summary.getRevenue(), // 총 수입
+                sumCategories(summary, SALE_COST_CATEGORIES), // 원자재비 ('재료비', '인건비', '물류비')
+                sumCategories(summary, OPERATING_EXPENSE_CATEGORIES), // 운영 비용 ('임대료', '통신비', '유지보수비', '공과금')
+                sumCategories(summary, TAX_CATEGORIES) // 세금 ('세금', 포스 부가세는 포함하지 않음)
         );
     }
 
-    /// 주차를 계산하는 함수 (json 형식으로 값 반환)
-    public List<Map<String, String>> calculateWeeksInMonth(YearMonth month) {
-        List<Map<String, String>> weeks = new ArrayList<>();
-
-        // 해당 월의 첫날과 마지막 날 계산
-        LocalDate firstDay = LocalDate.of(month.getYear(), month.getMonth(), 1);
-        LocalDate lastDay = firstDay.withDayOfMonth(firstDay.lengthOfMonth());
-
-        LocalDate current = firstDay;
-
-        while (current.isBefore(lastDay) || current.equals(lastDay)) {
-            // 주차별 시작일과 종료일 계산
-            LocalDate startOfWeek = current.with(java.time.DayOfWeek.MONDAY);
-            LocalDate endOfWeek = current.with(java.time.DayOfWeek.SUNDAY);
-
-            // 해당 월에 속하는 날짜만 포함
-            if (startOfWeek.isBefore(firstDay)) startOfWeek = firstDay;
-            if (endOfWeek.isAfter(lastDay)) endOfWeek = lastDay;
-
-            Map<String, String> weekInfo = new HashMap<>();
-            weekInfo.put("week", String.valueOf(current.get(java.time.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR)));
-            weekInfo.put("start", startOfWeek.toString());
-            weekInfo.put("end", endOfWeek.toString());
-            weeks.add(weekInfo);
+    /////// 주차별 지출 (월~일 기준, 해당 월 밖의 날짜는 잘라냄)
+    public ExpenseWeekDTO showWeekExpense(Long memberId, YearMonth month) {
+        Long accountId = getAccountIdByMemberId(memberId);
 
-            // 다음 주로 이동
-            current = current.plusWeeks(1);
+        // 주차별 지출 합계 계산 (쿼리 한 번)
+        // 월이 6주에 걸치면 (예: 1일이 일요일인 31일 달) 6주차 이후는 5주차에 합산
+        BigDecimal[] weekExpenses = {BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO};
+        int week = 0;
+        for (BigDecimal expense : sumExpensesByBucket(accountId, month.atDay(1), month.plusMonths(1).atDay(1), BucketUnit.WEEK).values()) {
+            int slot = Math.min(week++, weekExpenses.length - 1);
+            weekExpenses[slot] = weekExpenses[slot].add(expense);
         }
 
-        return weeks;
+        // 주차별 지출 정보를 DTO에 담아 반환
+        return new ExpenseWeekDTO(
+                weekExpenses[0],
+                weekExpenses[1],
+                weekExpenses[2],
+                weekExpenses[3],
+                weekExpenses[4]
+        );
     }
 
-    /////// 주차별 지출
-    public ExpenseWeekDTO showWeekExpense(Long memberId, YearMonth month) {
-        List<Map<String, String>> weeks = calculateWeeksInMonth(month);
+    // [from, to) 의 지출을 unit 구간별로 합산 (구간 순서 유지, 지출이 없는 구간은 0)
+    public Map<DateBucket, BigDecimal> sumExpensesByBucket(Long accountId, LocalDate from, LocalDate to, BucketUnit unit) {
+        return aggregateCache.get(accountId, "account.expense.bucket." + unit, List.of(from, to),
+                () -> queryExpensesByBucket(accountId, from, to, unit));
+    }
 
+    private Map<DateBucket, BigDecimal> queryExpensesByBucket(Long accountId, LocalDate from, LocalDate to, BucketUnit unit) {
         QAccountHistory accountHistory = QAccountHistory.accountHistory;
-        Long accountId = getAccountIdByMemberId(memberId);
-
-        List<BigDecimal> weekExpenses = new ArrayList<>();
-
-        // 주차별 지출 합계 계산
-        for (Map<String, String> week : weeks) {
-            LocalDate startDate = LocalDate.parse(week.get("start"));
-            LocalDate endDate = LocalDate.parse(week.get("end"));
-
-            BigDecimal totalExpense = queryFactory
-                    .select(accountHistory.amount.sum())
-                    .from(accountHistory)
-                    .where(accountHistory.account.accountId.eq(accountId)
-                            .and(accountHistory.transactionType.eq(TransactionTypeEnum.EXPENSE))
-                            .and(accountHistory.transactionDate.between(startDate.atStartOfDay(), endDate.atTime(23, 59, 59))))
-                    .fetchOne();
+        NumberExpression<Integer> bucketIndex = unit.indexOf(accountHistory.transactionDate, from);
 
+        Map<Integer, BigDecimal> totals = queryFactory
+                .select(bucketIndex, accountHistory.amount.sum())
+                .from(accountHistory)
+                .where(accountHistory.account.accountId.eq(accountId)
+                        .and(accountHistory.transactionType.eq(TransactionTypeEnum.EXPENSE))
+                        .and(inRange(accountHistory.transactionDate, from, to)))
+                .groupBy(bucketIndex)
+                .fetch()
+                .stream()
+                .filter(tuple -> tuple.get(accountHistory.amount.sum()) != null)
+                .collect(Collectors.toMap(
+                        // DB 에 따라 floor / datediff 결과 타입이 달라서 Number 로 받음
+                        tuple -> tuple.get(0, Number.class).intValue(),
+                        tuple -> tuple.get(accountHistory.amount.sum())));
 
-            if (totalExpense == null) totalExpense = BigDecimal.ZERO;
-            weekExpenses.add(totalExpense);
+        Map<DateBucket, BigDecimal> result = new LinkedHashMap<>();
+        for (DateBucket bucket : unit.split(from, to)) {
+            result.put(bucket, totals.getOrDefault(bucket.index(), BigDecimal.ZERO));
         }
-
-        // 주차별 지출 정보를 DTO에 담아 반환
-        return new ExpenseWeekDTO(
-                weekExpenses.size() > 0 ? weekExpenses.get(0) : BigDecimal.ZERO,
-                weekExpenses.size() > 1 ? weekExpenses.get(1) : BigDecimal.ZERO,
-                weekExpenses.size() > 2 ? weekExpenses.get(2) : BigDecimal.ZERO,
-                weekExpenses.size() > 3 ? weekExpenses.get(3) : BigDecimal.ZERO,
-                weekExpenses.size() > 4 ? weekExpenses.get(4) : BigDecimal.ZERO
-        );
+        return result;
     }
 
     ///////////////////////////////////////////////////////////
     // 지역에 맞는 AccountHistory 데이터를 가져오는 메서드
+    // 같은 지역(동) 사업장들의 월 평균 지출 / 카테고리별 평균 지출 (region_expense_monthly 롤업 조회)
     public Map<String, Object> getAccountHistoryByRegion(Long memberId, YearMonth month) {
-        // 1. Business Registration 조회
-        QBusinessRegistration qBusinessRegistration = QBusinessRegistration.businessRegistration;
-        QMember qMember = QMember.member;
-        String address = queryFactory
-                .select(qBusinessRegistration.address)
-                .from(qMember)
-                .join(qMember.businessRegistration, qBusinessRegistration)
-                .where(qMember.memberId.eq(memberId))
-                .fetchOne();
-        log.info("!!!!!!!!!!!!!!!!!"+ address);
-        // 2. 주소에서 지역 추출
-        String region = address != null ? extractRegionFromAddress(address) : null;
+        // 1. 사업장 지역 조회 (사업자 등록 시 주소에서 추출해 둔 "동")
+        String region = tenantContextService.resolve(memberId).getRegion();
         if (region == null || region.isEmpty()) {
             throw new IllegalArgumentException("주소에서 유효한 지역 정보를 추출할 수 없습니다.");
         }
+        return aggregateCache.get(region, "region.expense.average", month, () -> queryRegionExpenseAverages(region, month));
+    }
 
-        // 3. AccountHistory 조회
-        QAccountHistory qAccountHistory = QAccountHistory.accountHistory;
-        QAccount qAccount = QAccount.account;
-
-        List<Map<String, Object>> accountHistoryList = queryFactory.selectFrom(qAccountHistory)
-                .join(qAccount).on(qAccount.accountId.eq(qAccountHistory.account.accountId)) // 명확히 연결
-                .join(qBusinessRegistration).on(qBusinessRegistration.account.accountId.eq(qAccount.accountId)) // 명확히 연결
-                .where(qBusinessRegistration.address.contains(region)
-                        .and(qAccountHistory.transactionType.eq(TransactionTypeEnum.EXPENSE))
-                        .and(qAccountHistory.transactionDate.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetch()
-                .stream()
-                .map(record -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("amount", record.getAmount());
-                    map.put("category", record.getCategory());
-                    return map;
-                })
-                .collect(Collectors.toList());
-
-
-        // 4. 데이터가 없는 경우 기본값 반환
-        if (accountHistoryList.isEmpty()) {
+    private Map<String, Object> queryRegionExpenseAverages(String region, YearMonth month) {
+        // 2. 지역 × 월의 카테고리별 (합계, 건수) 조회
+        QRegionExpenseMonthly qRegionExpense = QRegionExpenseMonthly.regionExpenseMonthly;
+        List<Tuple> rows = queryFactory
+                .select(qRegionExpense.category, qRegionExpense.totalAmount, qRegionExpense.expenseCount)
+                .from(qRegionExpense)
+                .where(qRegionExpense.region.eq(region)
+                        .and(qRegionExpense.expenseMonth.eq(month.atDay(1))))
+                .fetch();
+
+        // 3. 데이터가 없는 경우 기본값 반환
+        if (rows.isEmpty()) {
             log.info("No account history found for region: {} and month: {}", region, month);
             Map<String, Object> result = new HashMap<>();
             result.put("averageExpense", BigDecimal.ZERO);
@@ -467,33 +502,25 @@ public class AccountService {
             return result;
         }
 
-        // 5. 총합 및 평균 계산
-        BigDecimal totalExpense = accountHistoryList.stream()
-                .map(record -> (BigDecimal) record.get("amount"))
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal averageExpense = totalExpense.divide(
-                BigDecimal.valueOf(accountHistoryList.size()), 2, RoundingMode.HALF_UP
-        );
+        // 4. 전체 / 카테고리별 평균 계산 (합계 / 건수)
+        BigDecimal totalExpense = BigDecimal.ZERO;
+        long totalCount = 0;
+        Map<String, BigDecimal> averageExpenseByCategory = new HashMap<>();
+        for (Tuple row : rows) {
+            BigDecimal amount = row.get(qRegionExpense.totalAmount);
+            long count = row.get(qRegionExpense.expenseCount);
+            totalExpense = totalExpense.add(amount);
+            totalCount += count;
+
+            String category = row.get(qRegionExpense.category);
+            if (!category.isEmpty() && count > 0) {
+                averageExpenseByCategory.put(category, amount.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP));
+            }
+        }
 
-        // 6. 카테고리별 평균 계산
-        Map<String, List<BigDecimal>> categoryMap = accountHistoryList.stream()
-                .filter(record -> record.get("category") != null && record.get("amount") != null)
-                .collect(Collectors.groupingBy(
-                        record -> (String) record.get("category"),
-                        Collectors.mapping(record -> (BigDecimal) record.get("amount"), Collectors.toList())
-                ));
+        BigDecimal averageExpense = totalExpense.divide(BigDecimal.valueOf(totalCount), 2, RoundingMode.HALF_UP);
 
-        Map<String, BigDecimal> averageExpenseByCategory = new HashMap<>();
-        categoryMap.forEach((category, amounts) -> {
-            BigDecimal total = amounts.stream()
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            BigDecimal average = total.divide(BigDecimal.valueOf(amounts.size()), 2, RoundingMode.HALF_UP);
-            averageExpenseByCategory.put(category, average);
-        });
-
-        // 7. 결과 반환
+        // 5. 결과 반환
         Map<String, Object> result = new HashMap<>();
         result.put("averageExpense", averageExpense);
         result.put("averageExpenseByCategory", averageExpenseByCategory);
@@ -501,18 +528,4 @@ public class AccountService {
         return result;
     }
 
-    // 주소에서 "동" 추출
-    private String extractRegionFromAddress(String address) {
-        if (address == null || address.isEmpty()) {
-            return "";
-        }
-        String[] parts = address.split(" ");
-        for (String part : parts) {
-            if (part.endsWith("동")) {
-                return part;
-            }
-        }
-        return "";
-    }
-
 }
@@ -9,14 +9,19 @@ import com.example.backend.model.BUSINESS.BusinessRegistration;
 import com.example.backend.model.BUSINESS.QBusinessRegistration;
 import com.example.backend.model.Member;
 import com.example.backend.model.POS.Pos;
-import com.example.backend.model.QMember;
 import com.example.backend.repository.*;
+import com.example.backend.service.TenantContextService;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple3;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +33,10 @@ public class BusinessService {
     private final JPAQueryFactory queryFactory;
     private final PosRepository posRepository;
     private final BusinessRegistrationRepository businessRegistrationRepository;
+    private final TenantContextService tenantContextService;
+    private final TransactionTemplate transactionTemplate;
+    private final RegionExpenseMonthlyRepository regionExpenseMonthlyRepository;
+    private final MonthlyFinancialSummaryRepository monthlyFinancialSummaryRepository;
 
     @Qualifier("webClient8084")
     private final WebClient webClient;
@@ -38,73 +47,93 @@ public class BusinessService {
     @Qualifier("webClient8083")
     private final WebClient webClient3;
 
+    // webClient8081 기준 은행 API 경로
+    @Value("${bank.api.path:/api/bank}")
+    private String bankApiPath;
+
 
     // 로그인한 유저의 businessID를 가져오는 로직
     public BusinessRegistration getBusinessIdByMemberID(Long memberId) {
-        QMember qMember = QMember.member;
-
-        // BusinessRegistration 조회
-        BusinessRegistration businessRegistration = queryFactory
-                .select(qMember.businessRegistration) // Member의 businessRegistration 직접 선택
-                .from(qMember)
-                .where(qMember.memberId.eq(memberId)) // memberId 조건
-                .fetchOne();
+        Long businessRegistrationId = tenantContextService.resolve(memberId).getBusinessRegistrationId();
 
-        if (businessRegistration == null) {
+        if (businessRegistrationId == null) {
             throw new BadRequestException("해당 회원과 연결된 사업자가 없습니다");
         }
 
-        return businessRegistration;
+        return businessRegistrationRepository.findById(businessRegistrationId)
+                .orElseThrow(() -> new BadRequestException("해당 회원과 연결된 사업자가 없습니다"));
     }
 
 
 
     // 사업자 외부 API에서 인증하는 로직 (최신)
+    // 사업자(8084) / 계좌(8081) / 포스(8083) 조회를 동시에 하고, 모두 성공한 경우에만 한 트랜잭션으로 저장
+    // 외부 조회는 부수효과가 없으므로 하나라도 실패하면 아무것도 저장하지 않고 종료 (부분 인증 상태가 남지 않음)
     public void verifyBusiness(Long memberId, CheckBusinessDTO checkBusinessRequest) {
         log.info("사업자 인증 진행 중 for Member ID: {}", memberId);
+        String brNum = checkBusinessRequest.getBrNum();
+
+        // 1. 외부 API 동시 호출 (하나라도 실패하면 나머지 요청은 취소)
+        Tuple3<BusinessRegistrationDTO, Account, Long> verified = Mono.zip(
+                fetchBusinessByBrNum(brNum)
+                        .switchIfEmpty(Mono.error(() -> new BadRequestException("유효하지 않은 사업자 등록번호입니다."))),
+                fetchAccountByBrNum(brNum)
+                        .switchIfEmpty(Mono.error(() -> new BadRequestException("해당 사업자 번호와 연결된 계좌가 없습니다."))),
+                fetchPosIdFromPosService(brNum)
+        ).block();
+
+        BusinessRegistrationDTO externalBusiness = verified.getT1();
+        Account connectedAccount = verified.getT2();
+        Long posId = verified.getT3();
+        log.info("연결된 계좌 정보: {}", connectedAccount);
 
-        // 1. 외부 API 호출하여 사업자 정보 확인
-        BusinessRegistrationDTO externalBusiness = webClient.get()
-                .uri("http://localhost:8084/business/{brNum}", checkBusinessRequest.getBrNum())
-                .retrieve()
-                .bodyToMono(BusinessRegistrationDTO.class)
-                .block();
-
-        if (externalBusiness == null) {
-            throw new BadRequestException("유효하지 않은 사업자 등록번호입니다.");
-        }
-
-        // 2. 기존 로직: Member와 Business 정보 연계
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BadRequestException("존재하지 않는 회원입니다."));
-
-        if (!externalBusiness.getRepresentativeName().equals(member.getName())) {
-            throw new BadRequestException("회원의 이름과 사업자의 대표자 이름이 일치하지 않습니다.");
-        }
-
-        BusinessRegistration business = new BusinessRegistration();
-
-        member.setBusinessRegistration(business);
-        business.setBrNum(externalBusiness.getBrNum());
-        business.setAddress(externalBusiness.getAddress());
-        business.setBusinessType(externalBusiness.getBusinessType());
-        business.setBusinessItem(externalBusiness.getBusinessItem());
-        business.setCompanyName(externalBusiness.getCompanyName());
-        business.setRepresentativeName(externalBusiness.getRepresentativeName());
-
-        member.setBusinessRegistration(business);
-
-        businessRepository.save(business);
-        memberRepository.save(member);
-
-        log.info("사업자 인증 성공 for Member ID: {}", memberId);
-
-        // 계좌 인증
-        verifyAccount(memberId, checkBusinessRequest.getBrNum());
-        // 포스 인증
-        verifyPos(memberId, checkBusinessRequest.getBrNum());
-
+        // 2. Member 와 사업자 / 계좌 / 포스 연결 (한 트랜잭션)
+        Long businessRegistrationId = transactionTemplate.execute(status -> {
+            Member member = memberRepository.findById(memberId)
+                    .orElseThrow(() -> new BadRequestException("존재하지 않는 회원입니다."));
+
+            if (!externalBusiness.getRepresentativeName().equals(member.getName())) {
+                throw new BadRequestException("회원의 이름과 사업자의 대표자 이름이 일치하지 않습니다.");
+            }
+
+            BusinessRegistration business = new BusinessRegistration();
+            business.setBrNum(externalBusiness.getBrNum());
+            business.setAddress(externalBusiness.getAddress());
+            business.setBusinessType(externalBusiness.getBusinessType());
+            business.setBusinessItem(externalBusiness.getBusinessItem());
+            business.setCompanyName(externalBusiness.getCompanyName());
+            business.setRepresentativeName(externalBusiness.getRepresentativeName());
+
+            accountRepository.save(connectedAccount);
+            business.setAccount(connectedAccount);
+
+            Pos pos = Pos.builder()
+                    .posId(posId) // 받아온 posId 그대로 저장
+                    .brNum(brNum)
+                    .build();
+            posRepository.save(pos);
+            business.setPos(pos);
+
+            businessRepository.save(business);
+            member.setBusinessRegistration(business);
+            memberRepository.save(member);
+            return business.getBusinessRegistrationId();
+        });
+        tenantContextService.evict(memberId);
+
+        // 이미 수집된 계좌 지출을 지역 지출 집계와 월 손익 스냅샷에 반영
+        regionExpenseMonthlyRepository.refreshAccount(connectedAccount.getAccountId());
+        monthlyFinancialSummaryRepository.refreshBusiness(businessRegistrationId);
+
+        log.info("사업자 인증 및 계좌/포스 연결 완료 for Member ID: {}", memberId);
+    }
 
+    // 사업자 정보 조회
+    private Mono<BusinessRegistrationDTO> fetchBusinessByBrNum(String brNum) {
+        return webClient.get()
+                .uri("/business/{brNum}", brNum)
+                .retrieve()
+                .bodyToMono(BusinessRegistrationDTO.class);
     }
 
 
@@ -124,7 +153,7 @@ public class BusinessService {
         }
 
         // 3. 계좌 연결 정보 가져오기
-        Account connectedAccount = fetchAccountByBrNum(brNum);
+        Account connectedAccount = fetchAccountByBrNum(brNum).block();
 
 
         if (connectedAccount == null) {
@@ -138,22 +167,23 @@ public class BusinessService {
         // 6. 저장
         businessRegistration.setAccount(connectedAccount);
         businessRepository.save(businessRegistration);
+        tenantContextService.evict(memberId);
+        regionExpenseMonthlyRepository.refreshAccount(connectedAccount.getAccountId());
+        monthlyFinancialSummaryRepository.refreshBusiness(businessRegistration.getBusinessRegistrationId());
         log.info("사업자 인증 및 계좌 연결 완료 for Member ID: {}", memberId);
     }
 
 
-    // 계좌 정보 호출 로직 추가
-    private Account fetchAccountByBrNum(String brNum) {
-        try {
-            return accountWebClient.get()
-                    .uri("http://localhost:8081/api/bank/check/account?brNum={brNum}", brNum)
-                    .retrieve()
-                    .bodyToMono(Account.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("Error while fetching account for brNum {}: {}", brNum, e.getMessage(), e);
-            return null; // 실패 시 null 반환
-        }
+    // 계좌 정보 호출 로직 추가 (연결된 계좌가 없으면(404) 빈 값 / 그 외 오류는 그대로 전달)
+    private Mono<Account> fetchAccountByBrNum(String brNum) {
+        return accountWebClient.get()
+                .uri(bankApiPath + "/check/account?brNum={brNum}", brNum)
+                .retrieve()
+                .bodyToMono(Account.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                    log.info("No account linked to brNum {}", brNum);
+                    return Mono.empty();
+                });
     }
 
 
@@ -169,7 +199,7 @@ public class BusinessService {
         }
 
         // Step 3: WebClient로 POS ID 가져오기
-        Long posId = fetchPosIdFromPosService(brNum);
+        Long posId = fetchPosIdFromPosService(brNum).block();
 
         // Step 4: POS 데이터 생성 및 저장
         Pos pos = Pos.builder()
@@ -181,22 +211,20 @@ public class BusinessService {
         // Step 5: BusinessRegistration에 POS 설정
         businessRegistration.setPos(pos);
         businessRegistrationRepository.save(businessRegistration);
+        tenantContextService.evict(memberId);
+        monthlyFinancialSummaryRepository.refreshBusiness(businessRegistration.getBusinessRegistrationId());
     }
 
-    private Long fetchPosIdFromPosService(String brNum) {
-        try {
-            // 요청 DTO 생성
-            PosRequestDTO requestDTO = new PosRequestDTO(null, brNum); // posId는 null
-            return webClient3.post()
-                    .uri("http://localhost:8083/api/pos/get-pos-id")
-                    .bodyValue(requestDTO)
-                    .retrieve()
-                    .bodyToMono(Long.class)
-                    .block();
-        } catch (Exception e) {
-            throw new IllegalStateException("Failed to fetch POS ID from POS service", e);
-        }
+    private Mono<Long> fetchPosIdFromPosService(String brNum) {
+        // 요청 DTO 생성
+        PosRequestDTO requestDTO = new PosRequestDTO(null, brNum); // posId는 null
+        return webClient3.post()
+                .uri("/api/pos/get-pos-id")
+                .bodyValue(requestDTO)
+                .retrieve()
+                .bodyToMono(Long.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("POS ID not found for brNum " + brNum)))
+                .onErrorMap(e -> !(e instanceof IllegalStateException), e -> new IllegalStateException("Failed to fetch POS ID from POS service", e));
     }
 
 }
-
@@ -0,0 +1,91 @@
+package com.example.backend.service.BUSINESS;
+
+import com.example.backend.exception.base_exceptions.BadRequestException;
+import com.example.backend.model.BUSINESS.MonthlyFinancialSummary;
+import com.example.backend.model.BUSINESS.QMonthlyFinancialSummary;
+import com.example.backend.repository.MonthlyFinancialSummaryRepository;
+import com.example.backend.service.AggregateCache;
+import com.example.backend.service.TenantContextService;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//////////// 사업자 월 손익 스냅샷 조회
+/// 1. 계좌/포스 수집이 끝날 때 해당 월의 스냅샷을 다시 집계 (AccountService.ingestChunk / PosSalesService.saveSales)
+/// 2. 조회는 스냅샷 한 행만 읽음 / 아직 스냅샷이 없는 달은 처음 조회할 때 원본에서 집계해서 채움
+/// 3. 지난달은 유예 기간이 지나면 마감해서 이후로는 바뀌지 않음 (FinancialSummaryCloseScheduler)
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FinancialSummaryService {
+
+    private final JPAQueryFactory queryFactory;
+    private final MonthlyFinancialSummaryRepository monthlyFinancialSummaryRepository;
+    private final TenantContextService tenantContextService;
+    private final AggregateCache aggregateCache;
+
+    // 월이 끝난 뒤 늦게 들어오는 거래를 반영하기 위해 마감을 미루는 일수
+    @Value("${finance.summary.close-grace-days:5}")
+    private int closeGraceDays;
+
+    // 한 달의 손익 스냅샷
+    public MonthlyFinancialSummary getMonthlySummary(Long memberId, YearMonth month) {
+        return getMonthlySummaries(memberId, List.of(month)).get(month);
+    }
+
+    // 여러 달의 손익 스냅샷 (월 -> 스냅샷, 요청한 순서 유지)
+    public Map<YearMonth, MonthlyFinancialSummary> getMonthlySummaries(Long memberId, Collection<YearMonth> months) {
+        Long businessRegistrationId = tenantContextService.resolve(memberId).getBusinessRegistrationId();
+        if (businessRegistrationId == null) {
+            throw new BadRequestException("해당 회원과 연결된 사업자가 없습니다");
+        }
+
+        // 같은 요청 안에서 이미 읽은 달은 다시 조회하지 않음
+        return aggregateCache.getAll(businessRegistrationId, "summary.monthly", months,
+                uncached -> loadSummaries(businessRegistrationId, uncached));
+    }
+
+    private Map<YearMonth, MonthlyFinancialSummary> loadSummaries(Long businessRegistrationId, List<YearMonth> months) {
+        Map<YearMonth, MonthlyFinancialSummary> found = findSummaries(businessRegistrationId, months);
+        List<YearMonth> missing = months.stream()
+                .filter(month -> !found.containsKey(month))
+                .toList();
+        if (!missing.isEmpty()) {
+            monthlyFinancialSummaryRepository.refreshBusinessMonths(businessRegistrationId, missing);
+            found.putAll(findSummaries(businessRegistrationId, missing));
+        }
+        return found;
+    }
+
+    // 유예 기간이 지난 달을 마감 (여러 노드에서 동시에 실행되어도 같은 결과)
+    public void closeFinishedMonths() {
+        YearMonth openFrom = YearMonth.from(LocalDate.now().minusDays(closeGraceDays));
+        int closed = monthlyFinancialSummaryRepository.closeMonthsBefore(openFrom);
+        if (closed > 0) {
+            log.info("월 손익 스냅샷 마감 - {} 이전 {}건", openFrom, closed);
+        }
+    }
+
+    private Map<YearMonth, MonthlyFinancialSummary> findSummaries(Long businessRegistrationId, Collection<YearMonth> months) {
+        QMonthlyFinancialSummary qSummary = QMonthlyFinancialSummary.monthlyFinancialSummary;
+
+        return queryFactory
+                .selectFrom(qSummary)
+                .where(qSummary.businessRegistrationId.eq(businessRegistrationId)
+                        .and(qSummary.summaryMonth.in(months.stream().map(month -> month.atDay(1)).toList())))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(summary -> YearMonth.from(summary.getSummaryMonth()), Function.identity()));
+    }
+}
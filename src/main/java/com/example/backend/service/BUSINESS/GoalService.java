@@ -1,13 +1,16 @@
 package com.example.backend.service.BUSINESS;
 
 import com.example.backend.dto.goals.*;
+import com.example.backend.dto.member.TenantContextDTO;
 import com.example.backend.exception.base_exceptions.BadRequestException;
 import com.example.backend.model.BUSINESS.BusinessRegistration;
 import com.example.backend.model.BUSINESS.Goals;
+import com.example.backend.model.BUSINESS.MonthlyFinancialSummary;
 import com.example.backend.model.BUSINESS.QGoals;
 import com.example.backend.repository.GoalsRepository;
 import com.example.backend.service.BANK.AccountService;
 import com.example.backend.service.POS.PosService;
+import com.example.backend.service.TenantContextService;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +21,9 @@ import java.time.Year;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +35,8 @@ public class GoalService {
     private final PosService posService;
     private final BusinessService businessService;
     private final GoalsRepository goalsRepository;
+    private final TenantContextService tenantContextService;
+    private final FinancialSummaryService financialSummaryService;
 
     // 목표 설정하기
     public void setGoal(Long memberId, GoalRequestDTO requestDTO) {
@@ -108,10 +116,12 @@ public class GoalService {
         goalsRepository.save(existingGoal);
         log.info("Updated goal: {}", existingGoal);
 
-        BigDecimal monthlyRevenue = posService.calculateMonthlyRevenue(memberId, requestDTO.getGoalMonth());
+        MonthlyFinancialSummary summary = financialSummaryService.getMonthlySummary(memberId, requestDTO.getGoalMonth());
+
+        BigDecimal monthlyRevenue = summary.getPosRevenue();
         log.info("Monthly revenue for memberId: {}, month: {}, revenue: {}", memberId, requestDTO.getGoalMonth(), monthlyRevenue);
 
-        BigDecimal monthlyExpense = accountService.calculateTotalExpenses(requestDTO.getGoalMonth(), memberId);
+        BigDecimal monthlyExpense = summary.getExpense();
         log.info("Monthly expense for memberId: {}, month: {}, expense: {}", memberId, requestDTO.getGoalMonth(), monthlyExpense);
 
         return new GoalResponseDTO(
@@ -139,10 +149,15 @@ public class GoalService {
                 )
                 .fetchOne();
 
-        BigDecimal currentMonthRevenue = posService.calculateMonthlyRevenue(memberId, goalMonth);
+        YearMonth oneMonthAgo = goalMonth.minusMonths(1);
+        YearMonth twoMonthsAgo = goalMonth.minusMonths(2);
+
+        // 이번 달과 지난 2개월의 포스 매출 (월 손익 스냅샷 한 번 조회)
+        Map<YearMonth, MonthlyFinancialSummary> summaries =
+                financialSummaryService.getMonthlySummaries(memberId, List.of(goalMonth, oneMonthAgo, twoMonthsAgo));
+        BigDecimal currentMonthRevenue = summaries.get(goalMonth).getPosRevenue();
         log.info("Current month revenue for memberId: {}, goalMonth: {}, revenue: {}", memberId, goalMonth, currentMonthRevenue);
 
-        YearMonth oneMonthAgo = goalMonth.minusMonths(1);
         Goals oneMonthGoal = queryFactory
                 .selectFrom(qGoals)
                 .where(
@@ -151,7 +166,6 @@ public class GoalService {
                 )
                 .fetchOne();
 
-        YearMonth twoMonthsAgo = goalMonth.minusMonths(2);
         Goals twoMonthGoal = queryFactory
                 .selectFrom(qGoals)
                 .where(
@@ -163,9 +177,9 @@ public class GoalService {
         return new RevenueGoalResponseDTO(
                 currentGoal != null ? currentGoal.getGoalMonth() : YearMonth.now(),
                 twoMonthGoal != null ? twoMonthGoal.getRevenueGoal() : BigDecimal.ZERO,
-                posService.calculateMonthlyRevenue(memberId, twoMonthsAgo),
+                summaries.get(twoMonthsAgo).getPosRevenue(),
                 oneMonthGoal != null ? oneMonthGoal.getRevenueGoal() : BigDecimal.ZERO,
-                posService.calculateMonthlyRevenue(memberId, oneMonthAgo),
+                summaries.get(oneMonthAgo).getPosRevenue(),
                 currentGoal != null ? currentGoal.getRevenueGoal() : BigDecimal.ZERO,
                 currentMonthRevenue
         );
@@ -187,7 +201,7 @@ public class GoalService {
                 )
                 .fetchOne();
 
-        BigDecimal currentMonthExpense = accountService.calculateTotalExpenses(goalMonth, memberId);
+        BigDecimal currentMonthExpense = financialSummaryService.getMonthlySummary(memberId, goalMonth).getExpense();
         log.info("Current month expense for memberId: {}, month: {}, expense: {}", memberId, goalMonth, currentMonthExpense);
 
         YearMonth oneMonthAgo = goalMonth.minusMonths(1);
@@ -222,46 +236,56 @@ public class GoalService {
     // 연간 목표 조회
     public List<GoalYearlyResponseDTO> getYearlyGoals(Long memberId, Year goalYear) {
         log.info("Fetching yearly goals for memberId: {}, goalYear: {}", memberId, goalYear);
-        BusinessRegistration business = businessService.getBusinessIdByMemberID(memberId);
-        log.info("Fetched businessRegistration for memberId: {}, businessId: {}", memberId, business.getBusinessRegistrationId());
+        TenantContextDTO tenant = tenantContextService.resolve(memberId);
 
-        QGoals qGoals = QGoals.goals;
+        if (tenant.getBusinessRegistrationId() == null) {
+            throw new BadRequestException("해당 회원과 연결된 사업자가 없습니다");
+        }
+        if (tenant.getPosId() == null) {
+            throw new BadRequestException("해당 사용자는 포스가 없습니다.");
+        }
+        if (tenant.getAccountId() == null) {
+            throw new BadRequestException("해당 사용자는 계좌가 없습니다.");
+        }
 
-        List<GoalYearlyResponseDTO> yearlyGoals = new ArrayList<>();
+        // 1. 12개월 목표를 한 번에 조회
+        QGoals qGoals = QGoals.goals;
+        List<YearMonth> months = IntStream.rangeClosed(1, 12)
+                .mapToObj(month -> YearMonth.of(goalYear.getValue(), month))
+                .toList();
 
-        for (int month = 1; month <= 12; month++) {
-            YearMonth goalMonth = YearMonth.of(goalYear.getValue(), month);
-            Goals revenueGoal = queryFactory
-                    .selectFrom(qGoals)
-                    .where(
-                            qGoals.businessRegistration.businessRegistrationId.eq(business.getBusinessRegistrationId())
-                                    .and(qGoals.goalMonth.eq(goalMonth))
-                    )
-                    .fetchOne();
+        Map<YearMonth, Goals> goalsByMonth = queryFactory
+                .selectFrom(qGoals)
+                .where(
+                        qGoals.businessRegistration.businessRegistrationId.eq(tenant.getBusinessRegistrationId())
+                                .and(qGoals.goalMonth.in(months))
+                )
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Goals::getGoalMonth, goal -> goal, (first, second) -> first));
 
-            BigDecimal realRevenue = posService.calculateMonthlyRevenue(memberId, goalMonth);
+        // 2. 월별 실제 매출 / 지출 합계를 한 번씩 조회
+        Map<Integer, BigDecimal> revenueByMonth = posService.calculateMonthlyRevenuesOfYear(tenant.getPosId(), goalYear);
+        Map<Integer, BigDecimal> expenseByMonth = accountService.calculateMonthlyExpensesOfYear(tenant.getAccountId(), goalYear);
 
-            Goals expenseGoal = queryFactory
-                    .selectFrom(qGoals)
-                    .where(
-                            qGoals.businessRegistration.businessRegistrationId.eq(business.getBusinessRegistrationId())
-                                    .and(qGoals.goalMonth.eq(goalMonth))
-                    )
-                    .fetchOne();
+        // 3. 메모리에서 월별로 합침
+        List<GoalYearlyResponseDTO> yearlyGoals = new ArrayList<>();
 
-            BigDecimal realExpense = accountService.calculateTotalExpenses(goalMonth, memberId);
+        for (YearMonth goalMonth : months) {
+            int month = goalMonth.getMonthValue();
+            Goals goal = goalsByMonth.get(goalMonth);
 
             GoalYearlyResponseDTO goalResponse = new GoalYearlyResponseDTO(
                     month,
-                    revenueGoal != null ? revenueGoal.getRevenueGoal() : BigDecimal.ZERO,
-                    realRevenue != null ? realRevenue : BigDecimal.ZERO,
-                    expenseGoal != null ? expenseGoal.getExpenseGoal() : BigDecimal.ZERO,
-                    realExpense != null ? realExpense : BigDecimal.ZERO
+                    goal != null ? goal.getRevenueGoal() : BigDecimal.ZERO,
+                    revenueByMonth.getOrDefault(month, BigDecimal.ZERO),
+                    goal != null ? goal.getExpenseGoal() : BigDecimal.ZERO,
+                    expenseByMonth.getOrDefault(month, BigDecimal.ZERO)
             );
 
             yearlyGoals.add(goalResponse);
-            log.info("Added yearly goal for month: {}, goalResponse: {}", month, goalResponse);
         }
+        log.info("Fetched yearly goals for memberId: {}, goalYear: {}, months: {}", memberId, goalYear, yearlyGoals.size());
 
         return yearlyGoals;
     }
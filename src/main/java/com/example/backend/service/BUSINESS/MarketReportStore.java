@@ -0,0 +1,123 @@
+package com.example.backend.service.BUSINESS;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+//////////// 모든 사업자가 같이 쓰는 월별 시장 동향 리포트 저장소
+/// 1. 시장 동향 리포트는 사업자와 관계없이 같은 입력(BSI, 환율, 재료 가격)으로 만들어지므로 월마다 한 번만 생성
+/// 2. 노드 로컬 캐시 -> Redis 순으로 조회하고, 사업자별 report 행은 만들지 않음
+/// 3. 여러 노드가 동시에 없는 리포트를 요청하면 Redis 잠금을 잡은 노드만 생성하고 나머지는 결과를 기다림
+/// 4. 프롬프트를 바꾸면 PROMPT_VERSION 을 올려서 이전 프롬프트로 만든 리포트를 쓰지 않도록 함
+
+@Component
+@Slf4j
+public class MarketReportStore {
+
+    // ReportService.generateMarketReport 의 프롬프트 버전
+    public static final int PROMPT_VERSION = 1;
+
+    private static final String KEY_PREFIX = "report:market:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<YearMonth, String> localCache;
+    private final Duration ttl;
+    private final Duration lockTtl;
+    private final long pollMs;
+
+    public MarketReportStore(StringRedisTemplate stringRedisTemplate,
+                             @Value("${report.market.ttl-days:90}") long ttlDays,
+                             @Value("${report.market.local-ttl-minutes:60}") long localTtlMinutes,
+                             @Value("${report.market.lock-ttl-seconds:120}") long lockTtlSeconds,
+                             @Value("${report.market.poll-ms:500}") long pollMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(24)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .build();
+        this.ttl = Duration.ofDays(ttlDays);
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+        this.pollMs = pollMs;
+    }
+
+    // 노드 로컬 -> Redis 순으로 조회 (없으면 null)
+    public String find(YearMonth month) {
+        String content = localCache.getIfPresent(month);
+        if (content != null) {
+            return content;
+        }
+        content = stringRedisTemplate.opsForValue().get(key(month));
+        if (content != null) {
+            localCache.put(month, content);
+        }
+        return content;
+    }
+
+    // 없으면 generator 로 생성해서 저장 (다른 노드가 생성 중이면 그 결과를 기다림)
+    public String getOrGenerate(YearMonth month, Supplier<String> generator) {
+        String cached = find(month);
+        if (cached != null) {
+            return cached;
+        }
+
+        String lockKey = key(month) + ":lock";
+        String owner = UUID.randomUUID().toString();
+        boolean locked = Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, owner, lockTtl));
+        if (!locked) {
+            String generated = awaitOtherNode(month, lockKey);
+            if (generated != null) {
+                return generated;
+            }
+            // 다른 노드의 생성이 실패했거나 잠금이 만료됨 -> 직접 생성
+            log.warn("다른 노드의 시장 동향 리포트 생성 결과 없음, 직접 생성 - {}", month);
+        }
+
+        try {
+            String existing = stringRedisTemplate.opsForValue().get(key(month));
+            if (existing != null) {
+                localCache.put(month, existing);
+                return existing;
+            }
+
+            String content = generator.get();
+            stringRedisTemplate.opsForValue().set(key(month), content, ttl);
+            localCache.put(month, content);
+            log.info("시장 동향 리포트 생성 완료 - {} (prompt v{})", month, PROMPT_VERSION);
+            return content;
+        } finally {
+            // 잠금이 만료되어 다른 노드가 잡은 경우에는 지우지 않음
+            if (locked && owner.equals(stringRedisTemplate.opsForValue().get(lockKey))) {
+                stringRedisTemplate.delete(lockKey);
+            }
+        }
+    }
+
+    // 잠금이 풀릴 때까지 결과를 기다림 (결과가 없으면 null)
+    private String awaitOtherNode(YearMonth month, String lockKey) {
+        try {
+            while (Boolean.TRUE.equals(stringRedisTemplate.hasKey(lockKey))) {
+                Thread.sleep(pollMs);
+                String content = find(month);
+                if (content != null) {
+                    return content;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("시장 동향 리포트 대기 중 중단되었습니다.", e);
+        }
+        return find(month);
+    }
+
+    private static String key(YearMonth month) {
+        return KEY_PREFIX + month + ":v" + PROMPT_VERSION;
+    }
+}
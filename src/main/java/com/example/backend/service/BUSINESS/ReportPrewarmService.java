@@ -0,0 +1,161 @@
+package com.example.backend.service.BUSINESS;
+
+import com.example.backend.model.QMember;
+import com.example.backend.model.enumSet.MemberActiveEnum;
+import com.example.backend.scheduler.JobCoordinator;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+//////////// 지난달 리포트 미리 생성
+/// 1. 월이 끝난 뒤 한가한 시간에 활성 사업자 전체의 INDUSTRY_REPORT 를 미리 만들어 둠 (공유 MARKET_REPORT 는 한 번만)
+/// 2. 사업자 ID 순으로 batchSize 씩 처리하고, 배치가 끝날 때마다 Redis 에 커서를 저장 -> 재시작해도 이어서 진행
+/// 3. 동시 생성 수(concurrency)와 분당 시작 수(rate-per-minute)를 제한해서 사용자 요청용 reportExecutor / GPT 한도를 남겨둠
+/// 4. 실패한 사업자는 backoff 로 재시도하고, 그래도 실패하면 건너뜀 (사용자가 조회할 때 다시 생성됨)
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportPrewarmService {
+
+    private static final String PROGRESS_KEY_PREFIX = "report:prewarm:";
+    private static final String DONE = "DONE";
+
+    private final ReportService reportService;
+    private final JPAQueryFactory queryFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JobCoordinator jobCoordinator;
+
+    // 한 번에 조회/체크포인트하는 사업자 수
+    @Value("${report.prewarm.batch-size:50}")
+    private int batchSize;
+
+    // 동시에 생성하는 리포트 수
+    @Value("${report.prewarm.concurrency:2}")
+    private int concurrency;
+
+    // 분당 생성을 시작하는 리포트 수
+    @Value("${report.prewarm.rate-per-minute:20}")
+    private int ratePerMinute;
+
+    @Value("${report.prewarm.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${report.prewarm.backoff-seconds:30}")
+    private long backoffSeconds;
+
+    // 한 노드만 실행 (이 시간이 지나도록 끝나지 않으면 다른 노드가 커서부터 이어서 실행)
+    @Value("${report.prewarm.lease-minutes:180}")
+    private long leaseMinutes;
+
+    // 진행 상황 보관 기간
+    @Value("${report.prewarm.progress-ttl-days:62}")
+    private long progressTtlDays;
+
+    // 지난달 리포트 미리 생성 (이미 끝난 달이면 바로 반환)
+    public void prewarmPreviousMonth() {
+        YearMonth month = YearMonth.now().minusMonths(1);
+        jobCoordinator.runWithLease("report-prewarm", Duration.ofMinutes(leaseMinutes), () -> prewarm(month));
+    }
+
+    private void prewarm(YearMonth month) {
+        String progressKey = PROGRESS_KEY_PREFIX + month;
+        if (DONE.equals(stringRedisTemplate.opsForHash().get(progressKey, "status"))) {
+            log.debug("{} 리포트 미리 생성은 이미 완료됨", month);
+            return;
+        }
+
+        Object savedCursor = stringRedisTemplate.opsForHash().get(progressKey, "cursor");
+        long cursor = savedCursor != null ? Long.parseLong((String) savedCursor) : 0L;
+        log.info("{} 리포트 미리 생성 시작 - 사업자 ID {} 이후부터", month, cursor);
+
+        int generated = 0;
+        int failed = 0;
+        List<Tuple> targets;
+        while (!(targets = findTargets(cursor)).isEmpty()) {
+            List<Long> memberIds = targets.stream().map(target -> target.get(QMember.member.memberId)).toList();
+
+            // 공유 리포트는 첫 사업자 기준으로 한 번만 생성 (이미 있으면 캐시 조회로 끝남)
+            if (cursor == 0L) {
+                prewarmReport(memberIds.get(0), month, "MARKET_REPORT").block();
+            }
+
+            List<Boolean> results = Flux.fromIterable(memberIds)
+                    .delayElements(Duration.ofMillis(60_000L / Math.max(ratePerMinute, 1)))
+                    .flatMap(memberId -> prewarmReport(memberId, month, "INDUSTRY_REPORT"), concurrency)
+                    .collectList()
+                    .block();
+
+            for (Boolean result : results) {
+                if (result) {
+                    generated++;
+                } else {
+                    failed++;
+                }
+            }
+
+            // 배치가 끝나면 커서 저장 (재시작 시 이 배치 이후부터)
+            cursor = targets.get(targets.size() - 1).get(QMember.member.businessRegistration.businessRegistrationId);
+            stringRedisTemplate.opsForHash().put(progressKey, "cursor", String.valueOf(cursor));
+            stringRedisTemplate.expire(progressKey, Duration.ofDays(progressTtlDays));
+        }
+
+        stringRedisTemplate.opsForHash().put(progressKey, "status", DONE);
+        stringRedisTemplate.expire(progressKey, Duration.ofDays(progressTtlDays));
+        log.info("{} 리포트 미리 생성 완료 - 성공 {}, 실패 {}", month, generated, failed);
+    }
+
+    // 리포트 하나 생성 (일시적인 오류만 backoff 로 재시도, 끝내 실패하면 false)
+    private Mono<Boolean> prewarmReport(Long memberId, YearMonth month, String reportType) {
+        return Mono.fromFuture(() -> reportService.getOrCreateReportAsync(memberId, month, reportType))
+                .retryWhen(Retry.backoff(maxRetries, Duration.ofSeconds(backoffSeconds)).filter(this::isTransient))
+                .thenReturn(true)
+                .onErrorResume(e -> {
+                    log.warn("리포트 미리 생성 실패 - memberId {}, {} {}: {}", memberId, reportType, month, e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    // 네트워크 오류 / 5xx / 타임아웃 / 실행기 포화만 재시도 (4xx, 파싱 오류, 사업자 없음 등은 바로 실패)
+    private boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof WebClientRequestException
+                    || cause instanceof TimeoutException
+                    || cause instanceof TaskRejectedException
+                    || (cause instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 커서 이후의 활성 사업자 (사업자 ID 순)
+    private List<Tuple> findTargets(long cursor) {
+        QMember member = QMember.member;
+        return queryFactory
+                .select(member.memberId, member.businessRegistration.businessRegistrationId)
+                .from(member)
+                .where(
+                        member.businessRegistration.businessRegistrationId.gt(cursor),
+                        member.activity.eq(MemberActiveEnum.ACTIVE)
+                )
+                .orderBy(member.businessRegistration.businessRegistrationId.asc())
+                .limit(batchSize)
+                .fetch();
+    }
+}
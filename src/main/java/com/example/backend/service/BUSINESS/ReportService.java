@@ -1,10 +1,13 @@
 package com.example.backend.service.BUSINESS;
 
-import com.example.backend.dto.account.ExpenseDetailDTO;
 import com.example.backend.dto.pos.MonthlyIncomeDTO;
+import com.example.backend.dto.report.AllReportsDTO;
+import com.example.backend.dto.report.ReportJobDTO;
 import com.example.backend.model.BUSINESS.BusinessRegistration;
+import com.example.backend.model.BUSINESS.MonthlyFinancialSummary;
 import com.example.backend.model.BUSINESS.QReport;
 import com.example.backend.model.BUSINESS.Report;
+import com.example.backend.service.AggregateCache;
 import com.example.backend.service.BANK.AccountService;
 import com.example.backend.service.POS.PosService;
 import com.example.backend.service.RedisService;
@@ -15,19 +18,42 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
 
 
 @Service
@@ -41,14 +67,40 @@ public class ReportService {
     private final RedisService redisService;
     private final BusinessService businessService;
 
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ThreadPoolTaskExecutor reportExecutor;
+    private final MarketReportStore marketReportStore;
+    private final FinancialSummaryService financialSummaryService;
+    private final AggregateCache aggregateCache;
+
+    @Qualifier("webClientOpenAi")
+    private final WebClient openAiWebClient;
+
     @PersistenceContext
     private EntityManager em;
 
+    private static final List<String> REPORT_TYPES = List.of("MARKET_REPORT", "INDUSTRY_REPORT");
+    private static final String REPORT_JOB_KEY_PREFIX = "report:job:";
+
+    // 사업자와 관계없이 월마다 하나만 만드는 리포트 (report 행 대신 MarketReportStore 에 저장)
+    private static final Set<String> SHARED_REPORT_TYPES = Set.of("MARKET_REPORT");
+
+    // 생성 중인 리포트 (single-flight)
+    private final ConcurrentMap<ReportKey, CompletableFuture<String>> inflightReports = new ConcurrentHashMap<>();
+
+    // /all 에서 리포트 하나를 기다리는 최대 시간 (넘으면 작업 ID 로 응답)
+    @Value("${report.all.timeout-ms:15000}")
+    private long reportTimeoutMs;
+
+    // 작업 상태 보관 시간
+    @Value("${report.job.ttl-minutes:60}")
+    private long reportJobTtlMinutes;
+
     @Value("${OPENAI_API_KEY}")
     private String openAiApiKey;
 
     private WebClient webClient;
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1";
 
     // 생성자에서 WebClient를 초기화합니다.
     @PostConstruct
@@ -60,73 +112,221 @@ public class ReportService {
             throw new IllegalStateException("API 키가 설정되지 않았습니다.");
         }
 
-        this.webClient = WebClient.builder()
-                .baseUrl(OPENAI_API_URL)
+        // 커넥션 풀 / 타임아웃 / 서킷 브레이커는 openai 프로필 설정 사용
+        this.webClient = openAiWebClient.mutate()
                 .defaultHeader("Authorization", "Bearer " + openAiApiKey.trim())
                 .defaultHeader("Content-Type", "application/json")
                 .build();
     }
 
-    @Transactional
-    public String getOrCreateReport(Long memberId, YearMonth month, String reportType) {
-
-//        BusinessRegistration businessRegistration = queryFactory
-//                .selectFrom(QBusinessRegistration.businessRegistration)
-//                .join(QBusinessRegistration.businessRegistration)
-//                .on(QBusinessRegistration.businessRegistration.businessRegistrationId.eq(QMember.member.businessRegistration.businessRegistrationId))
-//                .where(QMember.member.memberId.eq(memberId))
-//                .fetchOne();
-        BusinessRegistration businessRegistration = businessService.getBusinessIdByMemberID(memberId);
+    // 리포트 하나를 조회 (없으면 reportExecutor 에서 생성) / 기다리는 동안 요청 스레드를 잡지 않음
+    public Mono<Map<String, Object>> getReport(Long memberId, YearMonth month, String reportType) {
+        return Mono.defer(() -> Mono.fromFuture(getOrCreateReportAsync(memberId, month, reportType), true))
+                .map(this::parseJson);
+    }
 
-        if (businessRegistration == null) {
-            throw new IllegalArgumentException("Member ID: " + memberId + "에 대한 BusinessRegistration이 존재하지 않습니다.");
+    // 리포트 조회 (없으면 reportExecutor 에서 생성) / 같은 (사업자, 월, 유형) 의 생성은 노드 안에서 한 번만 진행
+    public CompletableFuture<String> getOrCreateReportAsync(Long memberId, YearMonth month, String reportType) {
+        if (!REPORT_TYPES.contains(reportType)) {
+            throw new IllegalArgumentException("Invalid report type: " + reportType);
         }
 
-        LocalDate reportMonth = month.atDay(1);
+        ReportKey key = reportKey(memberId, month, reportType);
 
-        // 1. 리포트 조회
-        Report existingReport = queryFactory.selectFrom(QReport.report)
-                .where(
-                        QReport.report.businessRegistration.businessRegistrationId.eq(businessRegistration.getBusinessRegistrationId()),
-                        QReport.report.reportMonth.eq(reportMonth),
-                        QReport.report.reportType.eq(reportType)
-                )
-                .fetchOne();
+        // 1. 리포트 조회 (있으면 바로 반환)
+        String existing = findReportContent(key);
+        if (existing != null) {
+            return CompletableFuture.completedFuture(existing);
+        }
 
-        // 2. 존재하면 JSON 반환
-        if (existingReport != null) {
-            return existingReport.getContent();
+        // 2. 이미 생성 중이면 그 결과를 같이 기다림
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> running = inflightReports.putIfAbsent(key, created);
+        if (running != null) {
+            return running;
         }
 
-        // 3. 리포트가 없으면 GPT API 호출 및 저장
-        Map<String, Object> reportData = generateReportFromAPI(memberId, month, reportType);
-        saveReport(businessRegistration, reportMonth, reportType, reportData);
+        // 3. 없으면 GPT API 호출 및 저장 (요청 스레드 / DB 커넥션을 잡지 않음)
+        try {
+            reportExecutor.execute(() -> {
+                try {
+                    created.complete(generateAndSaveReport(key, memberId, month));
+                } catch (Throwable e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inflightReports.remove(key, created);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inflightReports.remove(key, created);
+            created.completeExceptionally(new IllegalStateException("리포트 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.", e));
+        }
+        return created;
+    }
 
+    // 리포트 생성 작업 등록 / 이미 있는 리포트면 DONE 상태로 바로 반환
+    public ReportJobDTO submitReportJob(Long memberId, YearMonth month, String reportType) {
+        CompletableFuture<String> future = getOrCreateReportAsync(memberId, month, reportType);
 
-        try {
-            String generatedContent = objectMapper.writeValueAsString(reportData); // JSON 직렬화
-            log.info("생성된 리포트 반환: {}", generatedContent);
-            return generatedContent;
-        } catch (JsonProcessingException e) {
-            log.error("JSON 직렬화 오류: {}", e.getMessage());
-            throw new RuntimeException("JSON 직렬화 중 오류 발생", e);
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            return new ReportJobDTO(null, ReportJobDTO.DONE, reportType, month.toString(), parseJson(future.join()), null);
         }
 
+        String jobId = UUID.randomUUID().toString();
+        String jobKey = REPORT_JOB_KEY_PREFIX + jobId;
+        Map<String, String> job = new HashMap<>();
+        job.put("memberId", String.valueOf(memberId));
+        job.put("reportType", reportType);
+        job.put("month", month.toString());
+        job.put("status", ReportJobDTO.RUNNING);
+        stringRedisTemplate.opsForHash().putAll(jobKey, job);
+        stringRedisTemplate.expire(jobKey, Duration.ofMinutes(reportJobTtlMinutes));
+
+        future.whenComplete((content, error) -> {
+            if (error == null) {
+                stringRedisTemplate.opsForHash().put(jobKey, "status", ReportJobDTO.DONE);
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                log.error("리포트 생성 실패 - jobId {}, {} {}: {}", jobId, reportType, month, cause.getMessage());
+                stringRedisTemplate.opsForHash().put(jobKey, "error", String.valueOf(cause.getMessage()));
+                stringRedisTemplate.opsForHash().put(jobKey, "status", ReportJobDTO.FAILED);
+            }
+        });
 
+        return new ReportJobDTO(jobId, ReportJobDTO.RUNNING, reportType, month.toString(), null, null);
     }
 
-    @Transactional
-    public Map<String, Map<String, Object>> getAllReports(Long memberId, YearMonth month) {
-        Map<String, Map<String, Object>> reports = new HashMap<>();
+    // 리포트 생성 작업 상태 조회 (다른 회원의 작업이거나 만료되었으면 empty)
+    public Optional<ReportJobDTO> getReportJob(Long memberId, String jobId) {
+        Map<Object, Object> job = stringRedisTemplate.opsForHash().entries(REPORT_JOB_KEY_PREFIX + jobId);
+        if (job.isEmpty() || !String.valueOf(memberId).equals(job.get("memberId"))) {
+            return Optional.empty();
+        }
+
+        String status = (String) job.get("status");
+        String reportType = (String) job.get("reportType");
+        String month = (String) job.get("month");
+
+        Map<String, Object> report = null;
+        if (ReportJobDTO.DONE.equals(status)) {
+            String content = findReportContent(reportKey(memberId, YearMonth.parse(month), reportType));
+            report = content != null ? parseJson(content) : null;
+        }
+        return Optional.of(new ReportJobDTO(jobId, status, reportType, month, report, (String) job.get("error")));
+    }
+
+    // 모든 유형의 리포트를 동시에 조회/생성 (지연 시간 = 가장 느린 리포트, 최대 reportTimeoutMs)
+    // 시간 안에 끝나지 않은 리포트는 작업 ID 로, 실패한 리포트는 오류로 돌려주고 나머지는 그대로 반환
+    public Mono<AllReportsDTO> getAllReports(Long memberId, YearMonth month) {
+        Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        for (String reportType : REPORT_TYPES) {
+            futures.put(reportType, getOrCreateReportAsync(memberId, month, reportType));
+        }
+
+        return Flux.fromIterable(futures.entrySet())
+                .flatMap(entry -> awaitReport(memberId, month, entry.getKey(), entry.getValue()))
+                .collectMap(ReportOutcome::reportType)
+                .map(outcomes -> {
+                    Map<String, Map<String, Object>> reports = new LinkedHashMap<>();
+                    Map<String, ReportJobDTO> jobs = new LinkedHashMap<>();
+                    Map<String, String> errors = new LinkedHashMap<>();
+                    for (String reportType : REPORT_TYPES) {
+                        ReportOutcome outcome = outcomes.get(reportType);
+                        if (outcome.report() != null) {
+                            reports.put(reportType, outcome.report());
+                        } else if (outcome.job() != null) {
+                            jobs.put(reportType, outcome.job());
+                        } else {
+                            errors.put(reportType, outcome.error());
+                        }
+                    }
+                    return new AllReportsDTO(reports, jobs, errors);
+                });
+    }
+
+    // 리포트 하나를 기다림 (시간 초과면 작업 등록, 실패면 오류 / 다른 리포트에는 영향 없음)
+    private Mono<ReportOutcome> awaitReport(Long memberId, YearMonth month, String reportType, CompletableFuture<String> future) {
+        // 시간 초과로 구독이 취소되어도 공유 중인 생성 작업은 취소하지 않음
+        return Mono.fromFuture(future, true)
+                .timeout(Duration.ofMillis(reportTimeoutMs))
+                .map(content -> new ReportOutcome(reportType, parseJson(content), null, null))
+                .onErrorResume(TimeoutException.class, e -> Mono
+                        .fromCallable(() -> new ReportOutcome(reportType, null, submitReportJob(memberId, month, reportType), null))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .onErrorResume(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.error("리포트 조회 실패 - memberId {}, {} {}: {}", memberId, reportType, month, cause.getMessage());
+                    return Mono.just(new ReportOutcome(reportType, null, null, "보고서 생성 중 오류 발생"));
+                });
+    }
+
+    // 공유 리포트는 사업자 없이 (월, 유형) 으로만 식별
+    private ReportKey reportKey(Long memberId, YearMonth month, String reportType) {
+        if (SHARED_REPORT_TYPES.contains(reportType)) {
+            return new ReportKey(null, month.atDay(1), reportType);
+        }
+        BusinessRegistration businessRegistration = businessService.getBusinessIdByMemberID(memberId);
+        return new ReportKey(businessRegistration.getBusinessRegistrationId(), month.atDay(1), reportType);
+    }
+
+    private String findReportContent(ReportKey key) {
+        if (key.isShared()) {
+            return marketReportStore.find(YearMonth.from(key.reportMonth()));
+        }
+        return queryFactory.select(QReport.report.content)
+                .from(QReport.report)
+                .where(
+                        QReport.report.businessRegistration.businessRegistrationId.eq(key.businessRegistrationId()),
+                        QReport.report.reportMonth.eq(key.reportMonth()),
+                        QReport.report.reportType.eq(key.reportType())
+                )
+                .fetchFirst();
+    }
+
+    // reportExecutor 스레드에서 실행 (GPT 호출은 트랜잭션 밖, 저장만 짧은 트랜잭션)
+    private String generateAndSaveReport(ReportKey key, Long memberId, YearMonth month) {
+        // 공유 리포트는 Redis 에 한 번만 저장 (다른 노드가 생성 중이면 그 결과를 사용)
+        if (key.isShared()) {
+            return marketReportStore.getOrGenerate(month, () -> generateReportContent(memberId, month, key.reportType()));
+        }
+
+        // 다른 노드가 먼저 만들었으면 그대로 사용
+        String existing = findReportContent(key);
+        if (existing != null) {
+            return existing;
+        }
 
-        // MARKET_REPORT 가져오기
-        String marketReport = getOrCreateReport(memberId, month, "MARKET_REPORT");
-        reports.put("MARKET_REPORT", parseJson(marketReport));
+        String content = generateReportContent(memberId, month, key.reportType());
+        return persistReport(key, content);
+    }
 
-        // INDUSTRY_REPORT 가져오기
-        String industryReport = getOrCreateReport(memberId, month, "INDUSTRY_REPORT");
-        reports.put("INDUSTRY_REPORT", parseJson(industryReport));
-        return reports;
+    // 짧은 트랜잭션으로 저장 / 다른 노드가 먼저 저장했으면 그 내용을 반환
+    private String persistReport(ReportKey key, String content) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveReport(key, content));
+        } catch (DataIntegrityViolationException | PersistenceException e) {
+            // 다른 노드가 같은 리포트를 먼저 저장한 경우 (유니크 키 충돌)
+            String saved = findReportContent(key);
+            if (saved == null) {
+                throw e;
+            }
+            return saved;
+        }
+        log.info("리포트 생성 완료 - businessRegistrationId {}, {} {}", key.businessRegistrationId(), key.reportType(), key.reportMonth());
+        return content;
+    }
+
+    // GPT 로 리포트를 만들어 JSON 문자열로 반환
+    private String generateReportContent(Long memberId, YearMonth month, String reportType) {
+        // GPT 호출 실패는 원인 예외 그대로 전달 (실패 결과는 저장하지 않고 다음 요청에서 다시 생성)
+        Map<String, Object> reportData = generateReportFromAPI(memberId, month, reportType);
+
+        try {
+            return objectMapper.writeValueAsString(reportData); // JSON 직렬화
+        } catch (JsonProcessingException e) {
+            log.error("JSON 직렬화 오류: {}", e.getMessage());
+            throw new RuntimeException("JSON 직렬화 중 오류 발생", e);
+        }
     }
 
     private Map<String, Object> generateReportFromAPI(Long memberId, YearMonth month, String reportType) {
@@ -152,22 +352,26 @@ public class ReportService {
     }
 
 
-    @Transactional
-    public void saveReport(BusinessRegistration businessRegistration, LocalDate reportMonth, String reportType, Map<String, Object> reportData) {
-        try {
-            String content = objectMapper.writeValueAsString(reportData);
+    private void saveReport(ReportKey key, String content) {
+        Report newReport = new Report();
+        newReport.setBusinessRegistration(em.getReference(BusinessRegistration.class, key.businessRegistrationId()));
+        newReport.setReportMonth(key.reportMonth());
+        newReport.setReportType(key.reportType());
+        newReport.setContent(content);
+
+        em.persist(newReport);
+        em.flush();
+    }
 
+    // 유형별 조회 결과 (report / job / error 중 하나만 채워짐)
+    private record ReportOutcome(String reportType, Map<String, Object> report, ReportJobDTO job, String error) {
+    }
 
-            Report newReport = new Report();
-            newReport.setBusinessRegistration(businessRegistration);
-            newReport.setReportMonth(reportMonth);
-            newReport.setReportType(reportType);
-            newReport.setContent(content);
+    // 리포트 식별 키 (사업자, 월, 유형) / 공유 리포트는 사업자가 null
+    private record ReportKey(Long businessRegistrationId, LocalDate reportMonth, String reportType) {
 
-            em.persist(newReport);
-//        em.flush();
-        } catch (Exception e) {
-            throw new RuntimeException("JSON 오류", e);
+        boolean isShared() {
+            return businessRegistrationId == null;
         }
     }
 
@@ -249,21 +453,59 @@ public class ReportService {
             return marketReport;
 
         } catch (WebClientResponseException e) {
-            System.err.println("API 호출 오류: " + e.getResponseBodyAsString());
-            return Map.of("error", "API 호출 오류 발생");
-        } catch (Exception e) {
-            System.err.println("예상치 못한 오류 발생: " + e.getMessage());
-            return Map.of("error", "예상치 못한 오류 발생");
+            // 원래 예외를 그대로 던져서 호출 쪽이 일시적인 오류 (5xx 등) 인지 구분할 수 있게 함
+            log.error("API 호출 오류 ({}): {}", e.getStatusCode(), e.getResponseBodyAsString());
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("GPT 응답 파싱 오류: " + e.getMessage(), e);
         }
     }
 
     /////////////////////// 2. 동종 업계 비교 분석 보고서 생성 (지역 기반)
     public Map<String,Object> generateIndustryComparisonReport(Long memberId, YearMonth month) {
+        Map<String, Object> requestBody = buildIndustryComparisonRequest(memberId, month);
+
+        try {
+            String response = webClient.post()
+                    .uri("/chat/completions")
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+
+            // JSON 응답 파싱
+            JsonNode rootNode = objectMapper.readTree(response);
+            JsonNode argumentsNode = rootNode.path("choices").get(0).path("message").path("function_call").path("arguments");
+
+            // argumentsNode가 문자열이므로 다시 JSON으로 파싱
+            String argumentsJson = argumentsNode.asText();
+            JsonNode parsedArguments = objectMapper.readTree(argumentsJson);
+
+            // JsonNode를 Map으로 변환
+            Map<String, Object> marketReport = objectMapper.convertValue(parsedArguments, Map.class);
+
+            return marketReport;
+
+        } catch (WebClientResponseException e) {
+            // 원래 예외를 그대로 던져서 호출 쪽이 일시적인 오류 (5xx 등) 인지 구분할 수 있게 함
+            log.error("API 호출 오류 ({}): {}", e.getStatusCode(), e.getResponseBodyAsString());
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("GPT 응답 파싱 오류: " + e.getMessage(), e);
+        }
+    }
+
+    // 동종 업계 비교 분석 요청 본문 (평균 / 나의 매출, 지출 조회 포함)
+    private Map<String, Object> buildIndustryComparisonRequest(Long memberId, YearMonth month) {
 
             Map<String, Object> monthlyIncome = posService.calculateAverageMonthlyMetrics(month);
             Map<String, Object> categoryExpense = accountService.getAccountHistoryByRegion(memberId, month);
             MonthlyIncomeDTO myIncome  = posService.getMonthlyIncomeSummary(memberId, month);
-            List<ExpenseDetailDTO.ExpenseDetail> myExpense = accountService.getExpenseDetails(month,memberId);
+            // 나의 지출은 거래 목록 대신 월 손익 스냅샷의 합계 / 카테고리별 합계
+            MonthlyFinancialSummary summary = financialSummaryService.getMonthlySummary(memberId, month);
+            Map<String, Object> myExpense = Map.of(
+                    "totalExpense", summary.getExpense(),
+                    "expenseByCategory", summary.getCategoryExpenses());
 
             String content = String.format("""
                     다음 데이터는 평균 카페 운영 관련 지출 및 매출 데이터입니다.
@@ -315,35 +557,89 @@ public class ReportService {
 
             );
 
+            return requestBody;
+    }
 
-        try {
-            String response = webClient.post()
-                    .uri("/chat/completions")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+    // 동종 업계 비교 분석 보고서 스트리밍 (delta: GPT 가 만드는 JSON 조각, report: 저장된 최종 JSON, error: 실패)
+    // 이미 있으면 report 하나만, 다른 요청이 생성 중이면 그 결과를 기다려서 report 로 보냄
+    public Flux<ServerSentEvent<String>> streamIndustryComparisonReport(Long memberId, YearMonth month) {
+        ReportKey key = reportKey(memberId, month, "INDUSTRY_REPORT");
+        String existing = findReportContent(key);
+        if (existing != null) {
+            return Flux.just(reportEvent(existing));
+        }
 
-            // JSON 응답 파싱
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode argumentsNode = rootNode.path("choices").get(0).path("message").path("function_call").path("arguments");
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> running = inflightReports.putIfAbsent(key, created);
+        if (running != null) {
+            return Mono.fromFuture(running, true)
+                    .map(this::reportEvent)
+                    .flux()
+                    .onErrorResume(e -> Flux.just(errorEvent(memberId, month, e)));
+        }
 
-            // argumentsNode가 문자열이므로 다시 JSON으로 파싱
-            String argumentsJson = argumentsNode.asText();
-            JsonNode parsedArguments = objectMapper.readTree(argumentsJson);
+        StringBuilder arguments = new StringBuilder();
+        Flux<ServerSentEvent<String>> deltas = Mono.fromCallable(() -> aggregateCache.within(() -> buildIndustryComparisonRequest(memberId, month)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(this::streamFunctionArguments)
+                .doOnNext(arguments::append)
+                .map(fragment -> ServerSentEvent.builder(fragment).event("delta").build());
+
+        // 스트림이 끝나면 조립한 JSON 을 검증/저장하고, 같은 리포트를 기다리던 요청에도 전달
+        Mono<ServerSentEvent<String>> report = Mono
+                .fromCallable(() -> {
+                    if (arguments.isEmpty()) {
+                        throw new IllegalStateException("리포트 생성 실패: 스트리밍 응답이 비어있습니다.");
+                    }
+                    String content = persistReport(key, objectMapper.writeValueAsString(objectMapper.readTree(arguments.toString())));
+                    created.complete(content);
+                    return reportEvent(content);
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+
+        return deltas.concatWith(report)
+                .doOnError(created::completeExceptionally)
+                .onErrorResume(e -> Flux.just(errorEvent(memberId, month, e)))
+                .doFinally(signal -> {
+                    // 클라이언트가 끊어서 취소된 경우
+                    if (!created.isDone()) {
+                        created.completeExceptionally(new IllegalStateException("리포트 스트리밍이 중단되었습니다."));
+                    }
+                    inflightReports.remove(key, created);
+                });
+    }
 
-            // JsonNode를 Map으로 변환
-            Map<String, Object> marketReport = objectMapper.convertValue(parsedArguments, Map.class);
+    // OpenAI 스트리밍 응답에서 function_call.arguments 조각만 꺼냄
+    private Flux<String> streamFunctionArguments(Map<String, Object> requestBody) {
+        Map<String, Object> streamingBody = new HashMap<>(requestBody);
+        streamingBody.put("stream", true);
+
+        return webClient.post()
+                .uri("/chat/completions")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(streamingBody)
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .mapNotNull(ServerSentEvent::data)
+                .takeWhile(data -> !"[DONE]".equals(data))
+                .map(data -> {
+                    try {
+                        return objectMapper.readTree(data)
+                                .path("choices").path(0).path("delta").path("function_call").path("arguments").asText("");
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException("스트리밍 응답 파싱 오류: " + e.getMessage(), e);
+                    }
+                })
+                .filter(fragment -> !fragment.isEmpty());
+    }
 
-            return marketReport;
+    private ServerSentEvent<String> reportEvent(String content) {
+        return ServerSentEvent.builder(content).event("report").build();
+    }
 
-        } catch (WebClientResponseException e) {
-            System.err.println("API 호출 오류: " + e.getResponseBodyAsString());
-            return Map.of("error", "API 호출 오류 발생");
-        } catch (Exception e) {
-            System.err.println("예상치 못한 오류 발생: " + e.getMessage());
-            return Map.of("error", "예상치 못한 오류 발생");
-        }
+    private ServerSentEvent<String> errorEvent(Long memberId, YearMonth month, Throwable e) {
+        log.error("동종 업계 비교 분석 스트리밍 실패 - memberId {}, {}: {}", memberId, month, e.getMessage());
+        return ServerSentEvent.builder("보고서 생성 중 오류 발생").event("error").build();
     }
 
     @Transactional
@@ -351,7 +647,6 @@ public class ReportService {
         // 현재 날짜 기준 전 달 계산
         YearMonth currentMonth = YearMonth.now();
         YearMonth previousMonth = currentMonth.minusMonths(1);
-        LocalDate previousReportMonth = previousMonth.atDay(1); // 전 달의 첫 번째 날
 
         // BusinessRegistration 조회
         BusinessRegistration businessRegistration = businessService.getBusinessIdByMemberID(memberId);
@@ -361,18 +656,9 @@ public class ReportService {
             throw new IllegalArgumentException("회원 ID: " + memberId + "에 해당하는 사업자 등록 정보가 존재하지 않습니다.");
         }
 
-        // 리포트 타입 리스트 (MARKET_REPORT와 INDUSTRY_REPORT)
-        List<String> reportTypes = List.of("MARKET_REPORT", "INDUSTRY_REPORT");
-
-        // 각 리포트 타입에 대해 존재 여부 확인
-        boolean allReportsExist = reportTypes.stream().allMatch(reportType ->
-                queryFactory.selectFrom(QReport.report)
-                        .where(
-                                QReport.report.businessRegistration.businessRegistrationId.eq(businessRegistration.getBusinessRegistrationId()),
-                                QReport.report.reportMonth.eq(previousReportMonth),
-                                QReport.report.reportType.eq(reportType)
-                        )
-                        .fetchOne() != null
+        // 각 리포트 타입에 대해 존재 여부 확인 (공유 MARKET_REPORT 는 캐시, INDUSTRY_REPORT 는 report 테이블)
+        boolean allReportsExist = REPORT_TYPES.stream().allMatch(reportType ->
+                findReportContent(reportKey(memberId, previousMonth, reportType)) != null
         );
 
         return allReportsExist;
@@ -0,0 +1,118 @@
+package com.example.backend.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.example.backend.dto.card.CardDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+//////////// 카드 혜택 인덱스
+/// 1. card_data.json 을 한 번만 읽어서 카드별 혜택의 할인율 / 온라인 여부를 미리 파싱
+/// 2. 키워드 -> (카드, 키워드를 포함하는 혜택) 목록을 키워드별로 한 번만 만들어 재사용
+/// 3. 파일이 바뀌면 CardCatalogProvider 가 새 버전을 만들어 통째로 교체 (인스턴스 자체는 변경하지 않음)
+
+public final class CardCatalog {
+
+	// 추천 대상 혜택 키워드 (이 키워드가 없는 혜택은 제외)
+	private static final String[] BENEFIT_KEYWORDS = {"공과금", "쇼핑", "주유", "마트"};
+
+	private static final Pattern DISCOUNT_RATE_PATTERN = Pattern.compile("(\\d+)%");
+
+	private final long version;
+	private final List<Card> cards;
+	private final Map<String, List<KeywordMatch>> matchesByKeyword = new ConcurrentHashMap<>();
+
+	private CardCatalog(long version, List<Card> cards) {
+		this.version = version;
+		this.cards = cards;
+	}
+
+	// 카드가 하나도 없는 카탈로그 (최초 로드 실패 시)
+	public static CardCatalog empty() {
+		return new CardCatalog(0L, List.of());
+	}
+
+	// 파일을 읽어서 검증까지 마친 카탈로그를 만듦 (형식이 잘못되었거나 카드가 없으면 예외)
+	public static CardCatalog load(File jsonFile, ObjectMapper objectMapper, long version) throws IOException {
+		List<CardDTO> cardList = objectMapper.readValue(jsonFile, new TypeReference<List<CardDTO>>() {});
+
+		List<Card> cards = new ArrayList<>();
+		for (CardDTO card : cardList) {
+			List<Benefit> benefits = card.getBenefits().stream()
+					.filter(benefit -> Arrays.stream(BENEFIT_KEYWORDS).anyMatch(benefit::contains))
+					.map(benefit -> new Benefit(benefit, extractDiscountRate(benefit), benefit.contains("온라인")))
+					.toList();
+
+			// 필터링 후 benefits가 비어 있지 않은 카드만 유지
+			if (!benefits.isEmpty()) {
+				cards.add(new Card(
+						cards.size(),
+						Integer.parseInt(card.getRanking()),
+						card.getCardName(),
+						card.getCorporateName(),
+						card.getImageURL(),
+						benefits,
+						benefits.stream().map(Benefit::text).toList()));
+			}
+		}
+		if (cards.isEmpty()) {
+			throw new IOException("추천 가능한 카드가 없습니다: " + jsonFile.getPath());
+		}
+		return new CardCatalog(version, Collections.unmodifiableList(cards));
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public List<Card> getCards() {
+		return cards;
+	}
+
+	// 키워드를 포함하는 혜택이 있는 카드와 그 혜택들 (카드 순서 유지)
+	public List<KeywordMatch> findByKeyword(String keyword) {
+		return matchesByKeyword.computeIfAbsent(keyword, this::indexKeyword);
+	}
+
+	private List<KeywordMatch> indexKeyword(String keyword) {
+		List<KeywordMatch> matches = new ArrayList<>();
+		for (Card card : cards) {
+			List<Benefit> benefits = card.benefits().stream()
+					.filter(benefit -> benefit.text().contains(keyword))
+					.toList();
+			if (!benefits.isEmpty()) {
+				matches.add(new KeywordMatch(card, benefits));
+			}
+		}
+		return Collections.unmodifiableList(matches);
+	}
+
+	private static BigDecimal extractDiscountRate(String benefit) {
+		Matcher matcher = DISCOUNT_RATE_PATTERN.matcher(benefit);
+		if (matcher.find()) {
+			return new BigDecimal(matcher.group(1));
+		}
+		return BigDecimal.ZERO;
+	}
+
+	// index 는 카탈로그 안에서의 위치 (점수 배열의 인덱스로 사용)
+	public record Card(int index, int ranking, String cardName, String corporateName, String imageURL,
+			List<Benefit> benefits, List<String> benefitTexts) {
+	}
+
+	public record Benefit(String text, BigDecimal discountRate, boolean online) {
+	}
+
+	public record KeywordMatch(Card card, List<Benefit> benefits) {
+	}
+}
@@ -0,0 +1,128 @@
+package com.example.backend.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+//////////// 카드 카탈로그 버전 관리
+/// 1. 시작 시 card_data.json 을 읽어 첫 버전을 게시
+/// 2. WatchService 로 파일 변경을 감지하거나, 크롤러가 정상 종료되면 reload() 로 통지 받음
+/// 3. 새 파일은 요청 스레드가 아닌 감시 스레드에서 파싱/검증하고, 성공한 경우에만 새 버전으로 교체
+/// 4. 파싱에 실패하면 이전 버전을 그대로 사용 (잘못된 크롤링 결과로 추천이 중단되지 않음)
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CardCatalogProvider {
+
+	private final ObjectMapper objectMapper;
+
+	@Value("${card.py.data.path}")
+	private String jsonFilePath;
+
+	// 파일 쓰기가 끝날 때까지 기다리는 시간 (연속된 변경 이벤트를 한 번으로 묶음)
+	@Value("${card.catalog.reload-delay-ms:1000}")
+	private long reloadDelayMs;
+
+	private final AtomicReference<CardCatalog> snapshot = new AtomicReference<>(CardCatalog.empty());
+	private final AtomicLong versions = new AtomicLong();
+
+	private WatchService watchService;
+	private Thread watcher;
+
+	@PostConstruct
+	public void start() {
+		reload();
+
+		Path file = new File(jsonFilePath).getAbsoluteFile().toPath();
+		Path directory = file.getParent();
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+			directory.register(watchService,
+					StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY);
+		} catch (IOException e) {
+			// 감시를 못 해도 크롤러 종료 통지로는 갱신됨
+			log.warn("카드 데이터 파일 감시 실패 ({}): {}", directory, e.getMessage());
+			return;
+		}
+
+		watcher = new Thread(() -> watch(file.getFileName()), "card-catalog-watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	@PreDestroy
+	public void stop() throws IOException {
+		if (watchService != null) {
+			watchService.close();
+		}
+	}
+
+	// 현재 게시된 카탈로그 (잠금/파싱 없이 바로 반환)
+	public CardCatalog current() {
+		return snapshot.get();
+	}
+
+	// 파일을 다시 읽어 검증에 성공하면 새 버전으로 교체 / 성공 여부 반환
+	public synchronized boolean reload() {
+		File jsonFile = new File(jsonFilePath);
+		try {
+			CardCatalog loaded = CardCatalog.load(jsonFile, objectMapper, versions.get() + 1);
+			versions.set(loaded.getVersion());
+			snapshot.set(loaded);
+			log.info("카드 카탈로그 v{} 게시 - {} ({} cards)", loaded.getVersion(), jsonFile.getPath(), loaded.getCards().size());
+			return true;
+		} catch (Exception e) {
+			log.error("카드 카탈로그 갱신 실패, v{} 유지 - {}: {}", snapshot.get().getVersion(), jsonFile.getPath(), e.getMessage());
+			return false;
+		}
+	}
+
+	private void watch(Path fileName) {
+		while (true) {
+			try {
+				WatchKey key = watchService.take();
+				boolean changed = false;
+				for (WatchEvent<?> event : key.pollEvents()) {
+					if (fileName.equals(event.context())) {
+						changed = true;
+					}
+				}
+				key.reset();
+
+				if (changed) {
+					// 쓰는 중인 파일을 읽지 않도록 잠시 기다린 뒤, 그 사이 쌓인 이벤트는 버리고 한 번만 갱신
+					TimeUnit.MILLISECONDS.sleep(reloadDelayMs);
+					WatchKey pending;
+					while ((pending = watchService.poll()) != null) {
+						pending.pollEvents();
+						pending.reset();
+					}
+					reload();
+				}
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.backend.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.backend.dto.account.ExpenseDetailDTO.ExpenseDetail;
+
+//////////// 회원의 월별 카테고리 지출 벡터
+/// 카드 점수 계산에 필요한 (카테고리, 온라인 결제 여부) 별 지출 합계
+/// 상위 카드의 상세 내역을 만들 때 쓰기 위해 원본 지출 내역도 그룹별로 보관
+
+public final class CategorySpendVector {
+
+	private final List<SpendGroup> groups;
+
+	private CategorySpendVector(List<SpendGroup> groups) {
+		this.groups = groups;
+	}
+
+	public static CategorySpendVector of(List<ExpenseDetail> expenses) {
+		Map<GroupKey, List<ExpenseDetail>> expensesByGroup = new LinkedHashMap<>();
+		for (ExpenseDetail expense : expenses) {
+			GroupKey key = new GroupKey(expense.getCategory(), isOnline(expense));
+			expensesByGroup.computeIfAbsent(key, k -> new ArrayList<>()).add(expense);
+		}
+
+		List<SpendGroup> groups = new ArrayList<>(expensesByGroup.size());
+		expensesByGroup.forEach((key, groupExpenses) -> groups.add(new SpendGroup(
+				key.category(),
+				key.online(),
+				groupExpenses.stream().map(ExpenseDetail::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
+				List.copyOf(groupExpenses))));
+		return new CategorySpendVector(List.copyOf(groups));
+	}
+
+	public List<SpendGroup> getGroups() {
+		return groups;
+	}
+
+	// 결제(Note)가 온라인인지 여부
+	private static boolean isOnline(ExpenseDetail expense) {
+		return expense.getNote() != null && expense.getNote().contains("온라인");
+	}
+
+	private record GroupKey(String category, boolean online) {
+	}
+
+	public record SpendGroup(String category, boolean online, BigDecimal amount, List<ExpenseDetail> expenses) {
+	}
+}
@@ -6,48 +6,92 @@ import com.example.backend.model.POS.PosSales;
 import com.example.backend.model.enumSet.OrderStatus;
 import com.example.backend.model.enumSet.PaymentStatus;
 import com.example.backend.model.enumSet.PaymentTypeEnum;
+import com.example.backend.repository.PosRepository;
 import com.example.backend.repository.PosSalesRepository;
+import com.example.backend.scheduler.JobCoordinator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Random;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class OrderSyncService {
 
     private final PosOrderService posOrderService;
     private final PosSalesRepository posSalesRepository;
+    private final PosSalesService posSalesService;
+    private final PosRepository posRepository;
+    private final JobCoordinator jobCoordinator;
 
     private final Random random = new Random();
 
+    // 한 번에 저장할 주문 수
+    @Value("${pos.sync.batch-size:200}")
+    private int batchSize;
+
+    // 대사 구간 (최근 N 시간) 의 주문을 다시 받아서 push 로 들어오지 못한 주문을 채움
+    @Value("${pos.sync.reconcile-window-hours:24}")
+    private long reconcileWindowHours;
+
+    // 이 노드가 담당하는 POS 별로 대사 구간의 주문을 스트리밍으로 받아 저장 (이미 저장된 주문은 유니크 키로 건너뜀)
     public void syncOrders() {
-        List<OrderResponseDTO> orders = posOrderService.fetchOrdersFromPos();
-
-        for (OrderResponseDTO order : orders) {
-            boolean exists = posSalesRepository.existsByOrderTimeAndProductName(order.getOrderDate(), order.getProductName());
-            if (!exists) {
-
-                Pos pos = new Pos();
-                pos.setPosId(order.getPosId()); // DTO에서 posId 가져오기
-
-                PaymentTypeEnum paymentType = random.nextBoolean() ? PaymentTypeEnum.CASH : PaymentTypeEnum.CARD;
-
-                PosSales posSales = PosSales.builder()
-                        .posId(pos)
-                        .orderTime(order.getOrderDate())
-                        .totalPrice(BigDecimal.valueOf(order.getTotalPrice()))
-                        .vatAmount(BigDecimal.valueOf(order.getTotalPrice()).multiply(BigDecimal.valueOf(0.1)))
-                        .productName(order.getProductName())
-                        .quantity(order.getQuantity())
-                        .orderStatus(OrderStatus.valueOf(order.getOrderStatus()))
-                        .paymentType(paymentType)
-                        .paymentStatus(PaymentStatus.valueOf(order.getPaymentStatus()))
-                        .build();
-                posSalesRepository.save(posSales);
-            }
+        jobCoordinator.runIfIdle("pos-sync", () -> posRepository.findAll().stream()
+                .map(Pos::getPosId)
+                .filter(jobCoordinator::ownsShard)
+                .forEach(this::syncPosOrders));
+    }
+
+    // POS 하나의 주문을 batchSize 단위로 저장
+    private void syncPosOrders(Long posId) {
+        try {
+            // 커서는 대사 구간 직전의 마지막 주문 ID (주문 ID 는 주문 시간 순으로 증가)
+            // 그 뒤의 주문을 모두 다시 받으므로 429 로 거절되었거나 전송 중 유실된 push 도 구간 안이면 채워짐
+            // 구간보다 오래된 주문이 없으면 (최초 동기화) 처음부터 받음
+            LocalDateTime windowStart = LocalDateTime.now().minusHours(reconcileWindowHours);
+            Long lastOrderId = posSalesRepository.findOrderIdsBefore(posId, windowStart, PageRequest.of(0, 1)).stream()
+                    .findFirst()
+                    .orElse(null);
+
+            Integer saved = posOrderService.streamOrdersFromPos(posId, lastOrderId)
+                    .map(this::toPosSales)
+                    .buffer(batchSize)
+                    .concatMap(batch -> Mono.fromCallable(() -> posSalesService.saveSales(batch))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .reduce(0, Integer::sum)
+                    .block();
+
+            log.info("POS 주문 동기화 완료 - posId {}, 커서 {}, 저장 {}건", posId, lastOrderId, saved);
+        } catch (Exception e) {
+            log.error("POS 주문 동기화 실패 - posId {}: {}", posId, e.getMessage(), e);
         }
     }
+
+    private PosSales toPosSales(OrderResponseDTO order) {
+        Pos pos = new Pos();
+        pos.setPosId(order.getPosId()); // DTO에서 posId 가져오기
+
+        PaymentTypeEnum paymentType = random.nextBoolean() ? PaymentTypeEnum.CASH : PaymentTypeEnum.CARD;
+
+        return PosSales.builder()
+                .posId(pos)
+                .externalOrderId(order.getOrderId())
+                .orderTime(order.getOrderDate())
+                .totalPrice(BigDecimal.valueOf(order.getTotalPrice()))
+                .vatAmount(BigDecimal.valueOf(order.getTotalPrice()).multiply(BigDecimal.valueOf(0.1)))
+                .productName(order.getProductName())
+                .quantity(order.getQuantity())
+                .orderStatus(OrderStatus.valueOf(order.getOrderStatus()))
+                .paymentType(paymentType)
+                .paymentStatus(PaymentStatus.valueOf(order.getPaymentStatus()))
+                .build();
+    }
 }
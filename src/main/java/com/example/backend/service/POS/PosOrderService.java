@@ -13,6 +13,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -28,17 +30,48 @@ public class PosOrderService {
     private final MemberRepository memberRepository;
 
 
-    @Value("${pos.api.url.orders}")
-    private String posOrdersUrl;
+    // webClient8083 기준 주문 API 경로
+    @Value("${pos.api.path.orders:/api/orders}")
+    private String posOrdersPath;
 
-    public List<OrderResponseDTO> fetchOrdersFromPos() {
+    // 한 번에 요청할 주문 수
+    @Value("${pos.api.page-size:500}")
+    private int pageSize;
+
+    // posId 의 afterOrderId 이후 주문을 pageSize 단위로 이어서 가져오는 스트림 (전체 이력을 메모리에 올리지 않음)
+    public Flux<OrderResponseDTO> streamOrdersFromPos(Long posId, Long afterOrderId) {
+        long cursor = afterOrderId != null ? afterOrderId : 0L;
+
+        return fetchOrderPage(posId, cursor)
+                .expand(page -> page.hasNext(pageSize) ? fetchOrderPage(posId, page.lastOrderId()) : Mono.empty())
+                .flatMapIterable(OrderPage::orders);
+    }
+
+    private Mono<OrderPage> fetchOrderPage(Long posId, long afterOrderId) {
         return webClient.get()
-                .uri(posOrdersUrl + "/all")
+                .uri(posOrdersPath + "/since?posId={posId}&afterOrderId={afterOrderId}&size={size}", posId, afterOrderId, pageSize)
                 .retrieve()
                 .bodyToFlux(OrderResponseDTO.class)
                 .collectList()
-                .block();
+                .map(orders -> new OrderPage(afterOrderId, orders));
     }
 
+    // 한 페이지 분량의 주문과 요청 시 사용한 커서
+    private record OrderPage(long afterOrderId, List<OrderResponseDTO> orders) {
+
+        long lastOrderId() {
+            return orders.stream()
+                    .map(OrderResponseDTO::getOrderId)
+                    .filter(orderId -> orderId != null)
+                    .mapToLong(Long::longValue)
+                    .max()
+                    .orElse(afterOrderId);
+        }
+
+        // 페이지가 가득 찼고 커서가 앞으로 나아간 경우에만 다음 페이지 요청
+        boolean hasNext(int pageSize) {
+            return orders.size() >= pageSize && lastOrderId() > afterOrderId;
+        }
+    }
 
 }
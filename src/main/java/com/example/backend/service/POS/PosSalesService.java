@@ -1,73 +1,288 @@
-//package com.example.backend.service.POS;
-//
-//import com.example.backend.dto.pos.PosSalesRequestDTO;
-//import com.example.backend.model.POS.Pos;
-//import com.example.backend.model.POS.PosSales;
-//import com.example.backend.repository.PosSalesRepository;
-//import lombok.RequiredArgsConstructor;
-//import org.springframework.stereotype.Service;
-//import org.springframework.transaction.annotation.Transactional;
-//import org.springframework.web.reactive.function.client.WebClient;
-//
-//import java.math.BigDecimal;
-//import java.util.List;
-//
-//@Service
-//@RequiredArgsConstructor
-//public class PosSalesService {
-//
-//    private final PosSalesRepository posSalesRepository;
-//    private final WebClient webClient;
-//
-//
-//    // POS(8083)에서 데이터 가져오기
-//    public List<PosSalesRequestDTO> fetchPosSales() {
-//        String posUrl= "http://localhost:8083/api/orders";
-//
-//        return webClient.get()
-//                .uri(posUrl)
-//                .retrieve()
-//                .bodyToFlux(PosSalesRequestDTO.class)
-//                .collectList()
-//                .block();
-//    }
-//
-//
-//
-//    // 단일 저장 메서드
-//    public PosSales saveSale(PosSalesRequestDTO request) {
-//        PosSales posSales = PosSales.builder()
-//                .posId(getDummyPos()) // 임시 POS 설정
-//                .productName(request.getProductName())
-//                .quantity(request.getQuantity())
-//                .totalPrice(request.getTotalPrice())
-//                .vatAmount(calculateVAT(request.getTotalPrice()))
-//                .orderTime(request.getOrderTime())
-//                .orderStatus(request.getOrderStatus())
-//                .paymentType(request.getPaymentType())
-//                .paymentStatus(request.getPaymentStatus())
-//                .build();
-//
-//        return posSalesRepository.save(posSales); // 저장된 엔티티 반환
-//
-//    }
-//
-//    // 다중 저장 메서드
-//    @Transactional
-//    public void saveSales(List<PosSalesRequestDTO> requests) {
-//        requests.forEach(this::saveSale); // 요청 리스트 순회하며 개별 저장
-//    }
-//
-//    // 부가세 계산 로직
-//    private BigDecimal calculateVAT(BigDecimal totalAmount) {
-//        // 부가세 계산 (예: 10%)
-//        return totalAmount.multiply(new BigDecimal("0.1"));
-//    }
-//
-//    // 임시 POS 객체 생성
-//    private Pos getDummyPos() {
-//        return Pos.builder()
-//                .posId(1L) // 테스트용 POS ID
-//                .build();
-//    }
-//}
\ No newline at end of file
+package com.example.backend.service.POS;
+
+import com.example.backend.dto.pos.PosSalesRequestDTO;
+import com.example.backend.exception.base_exceptions.BadRequestException;
+import com.example.backend.model.POS.Pos;
+import com.example.backend.model.POS.PosSales;
+import com.example.backend.model.POS.PosSalesDeadLetter;
+import com.example.backend.model.enumSet.OrderStatus;
+import com.example.backend.model.enumSet.PaymentStatus;
+import com.example.backend.model.enumSet.PaymentTypeEnum;
+import com.example.backend.repository.MonthlyFinancialSummaryRepository;
+import com.example.backend.repository.PosRepository;
+import com.example.backend.repository.PosSalesDailyRepository;
+import com.example.backend.repository.PosSalesDeadLetterRepository;
+import com.example.backend.repository.PosSalesRepository;
+import com.example.backend.scheduler.JobCoordinator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+//////////// POS 매출 수집
+/// 1. POS 가 /api/pos-sales/save 로 매출 배치를 push 하면 검증 후 bounded 큐에 적재하고 바로 응답 (202)
+/// 2. 큐에 자리가 없으면 배치 전체를 거절해서 POS 쪽이 재시도하도록 함 (back-pressure)
+/// 3. 워커 스레드가 큐를 batchSize 단위로 비우면서 저장 (유니크 키 중복만 건너뜀)
+/// 4. OrderSyncService(주기적 대사)도 같은 saveSales 경로로 저장
+/// 5. 저장된 매출이 속한 (POS, 일자) 의 pos_sales_daily 롤업을 다시 집계
+/// 6. 이어서 해당 달의 사업자 월 손익 스냅샷을 다시 집계
+/// 7. 저장에 실패한 배치는 backoff 로 재시도하고, 그래도 실패하거나 종료 시 큐에 남은 매출은 pos_sales_dead_letter 로 옮김
+///    (dead-letter 는 주기적으로 다시 저장 / push 자체가 거절되거나 유실된 주문은 대사 폴링이 최근 구간을 다시 받아서 채움)
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PosSalesService {
+
+    private final PosSalesRepository posSalesRepository;
+    private final PosRepository posRepository;
+    private final PosSalesDailyRepository posSalesDailyRepository;
+    private final MonthlyFinancialSummaryRepository monthlyFinancialSummaryRepository;
+    private final PosSalesDeadLetterRepository posSalesDeadLetterRepository;
+    private final JobCoordinator jobCoordinator;
+    private final TransactionTemplate transactionTemplate;
+
+    // 적재 대기 가능한 최대 매출 건수
+    @Value("${pos.ingest.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // 한 번에 저장할 매출 수
+    @Value("${pos.sync.batch-size:200}")
+    private int batchSize;
+
+    // 배치 저장 시도 횟수 (넘으면 dead-letter)
+    @Value("${pos.ingest.max-attempts:3}")
+    private int maxAttempts;
+
+    // 첫 재시도 대기 시간 (시도마다 두 배)
+    @Value("${pos.ingest.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    // 종료 시 워커가 큐를 비우기를 기다리는 시간 (넘으면 남은 매출은 dead-letter)
+    @Value("${pos.ingest.shutdown-timeout-seconds:30}")
+    private long shutdownTimeoutSeconds;
+
+    // 한 번에 다시 저장할 dead-letter 수
+    @Value("${pos.ingest.dead-letter.redrive-size:500}")
+    private int redriveSize;
+
+    private BlockingQueue<PosSales> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void startWorker() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.running = true;
+        this.worker = new Thread(this::drainQueue, "pos-sales-ingest");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @PreDestroy
+    public void stopWorker() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(shutdownTimeoutSeconds));
+        if (worker.isAlive()) {
+            // 재시도 대기 중이면 깨워서 처리 중인 배치를 dead-letter 로 옮기게 함
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        List<PosSales> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            deadLetter(remaining, "종료 시 큐에 남은 매출");
+        }
+    }
+
+    // 매출 배치 접수 (전부 적재하면 true, 큐에 자리가 부족하면 아무것도 적재하지 않고 false)
+    public boolean enqueueSales(List<PosSalesRequestDTO> requests) {
+        List<PosSales> sales = requests.stream()
+                .map(this::toPosSales)
+                .toList();
+
+        // 등록되지 않은 POS 의 매출은 저장할 수 없으므로 접수 단계에서 거절 (큐에 넣으면 배치 전체가 dead-letter 로 감)
+        Set<Long> posIds = sales.stream().map(sale -> sale.getPosId().getPosId()).collect(Collectors.toSet());
+        if (posRepository.findAllById(posIds).size() != posIds.size()) {
+            throw new BadRequestException("등록되지 않은 posId 가 포함되어 있습니다.");
+        }
+
+        synchronized (queue) {
+            if (queue.remainingCapacity() < sales.size()) {
+                log.warn("POS 매출 큐가 가득 찼습니다. 요청 {}건 거절 (남은 자리 {})", sales.size(), queue.remainingCapacity());
+                return false;
+            }
+            queue.addAll(sales);
+        }
+        return true;
+    }
+
+    // 다중 저장 메서드 (이미 저장된 주문은 건너뜀) / 새로 저장된 행 수 반환
+    // 저장과 롤업 갱신을 한 트랜잭션으로 묶어서, 갱신이 실패하면 저장도 취소되고 재시도 때 다시 집계됨
+    public int saveSales(List<PosSales> sales) {
+        if (sales.isEmpty()) {
+            return 0;
+        }
+        Integer inserted = transactionTemplate.execute(status -> insertAndRefresh(sales));
+        return inserted != null ? inserted : 0;
+    }
+
+    private int insertAndRefresh(List<PosSales> sales) {
+        // 주문 ID 없이 저장된 배포 이전 행과 같은 주문은 새로 넣지 않고 그 행에 주문 ID 를 채움 (첫 대사에서 이력 전체가 중복 저장되지 않도록)
+        List<PosSales> fresh = posSalesRepository.adoptLegacyRows(sales);
+        int inserted = posSalesRepository.insertIgnoreDuplicates(fresh);
+
+        // 새로 저장된 행이 있으면 해당 (POS, 일자) 롤업 갱신
+        if (inserted > 0) {
+            Map<Long, Set<LocalDate>> touchedDays = sales.stream()
+                    .collect(Collectors.groupingBy(
+                            sale -> sale.getPosId().getPosId(),
+                            Collectors.mapping(sale -> sale.getOrderTime().toLocalDate(), Collectors.toSet())));
+            posSalesDailyRepository.refreshDays(touchedDays);
+
+            // 갱신된 일자가 속한 달의 손익 스냅샷 반영 (일별 롤업을 읽으므로 그 다음에)
+            touchedDays.forEach((posId, days) -> monthlyFinancialSummaryRepository.refreshPosMonths(posId,
+                    days.stream().map(YearMonth::from).collect(Collectors.toSet())));
+        }
+        return inserted;
+    }
+
+    // 롤업 테이블이 비어 있으면 (최초 배포) 기존 pos_sales 로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void initDailyRollup() {
+        if (posSalesDailyRepository.count() == 0 && posSalesRepository.count() > 0) {
+            int rows = posSalesDailyRepository.rebuildAll();
+            log.info("pos_sales_daily 롤업 초기화 - {}건", rows);
+        }
+    }
+
+    private void drainQueue() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PosSales first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<PosSales> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                saveWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 배치를 maxAttempts 번까지 저장 시도 (대기 시간은 시도마다 두 배) / 끝내 실패하면 dead-letter
+    private void saveWithRetry(List<PosSales> batch) throws InterruptedException {
+        long backoffMs = retryBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                int saved = saveSales(batch);
+                log.debug("POS 매출 저장 - 수신 {}건, 저장 {}건", batch.size(), saved);
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    log.error("POS 매출 저장 실패 ({}회 시도) - {}건 dead-letter 로 이동: {}", attempt, batch.size(), e.getMessage(), e);
+                    deadLetter(batch, e.getMessage());
+                    return;
+                }
+                log.warn("POS 매출 저장 실패 ({}/{}회), {}ms 후 재시도: {}", attempt, maxAttempts, backoffMs, e.getMessage());
+            }
+
+            try {
+                TimeUnit.MILLISECONDS.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                deadLetter(batch, "재시도 대기 중 종료");
+                throw e;
+            }
+            backoffMs *= 2;
+        }
+    }
+
+    // 저장하지 못한 매출을 dead-letter 테이블로 옮김 (여기서도 실패하면 로그에만 남음)
+    private void deadLetter(List<PosSales> sales, String errorMessage) {
+        try {
+            posSalesDeadLetterRepository.saveAll(sales.stream()
+                    .map(sale -> PosSalesDeadLetter.of(sale, errorMessage))
+                    .toList());
+        } catch (Exception e) {
+            log.error("POS 매출 dead-letter 저장 실패 - {}건 유실: {}", sales.size(), e.getMessage(), e);
+        }
+    }
+
+    // dead-letter 매출을 오래된 것부터 다시 저장하고, 저장되면 삭제 (이미 저장된 주문은 건너뛰므로 안전 / 클러스터에서 한 노드만)
+    public void redriveDeadLetters() {
+        jobCoordinator.runWithLease("pos-dead-letter-redrive", Duration.ofMinutes(5), () -> {
+            try {
+                List<PosSalesDeadLetter> deadLetters;
+                do {
+                    deadLetters = posSalesDeadLetterRepository.findAllByOrderByFailedAtAsc(PageRequest.of(0, redriveSize));
+                    if (deadLetters.isEmpty()) {
+                        return;
+                    }
+                    int saved = saveSales(deadLetters.stream().map(PosSalesDeadLetter::toPosSales).toList());
+                    posSalesDeadLetterRepository.deleteAllInBatch(deadLetters);
+                    log.info("POS 매출 dead-letter 재저장 - {}건 중 {}건 저장", deadLetters.size(), saved);
+                } while (deadLetters.size() == redriveSize);
+            } catch (Exception e) {
+                // 남은 dead-letter 는 다음 주기에 다시 시도
+                log.error("POS 매출 dead-letter 재저장 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    private PosSales toPosSales(PosSalesRequestDTO request) {
+        if (request.getPosId() == null || request.getPosSalesId() == null || request.getOrderTime() == null
+                || request.getTotalPrice() == null || request.getProductName() == null || request.getProductName().isBlank()) {
+            throw new BadRequestException("posId, posSalesId, orderTime, totalPrice, productName 은 필수입니다.");
+        }
+
+        try {
+            return PosSales.builder()
+                    .posId(Pos.builder().posId(request.getPosId()).build())
+                    .externalOrderId(request.getPosSalesId())
+                    .productName(request.getProductName())
+                    .quantity(request.getQuantity())
+                    .totalPrice(request.getTotalPrice())
+                    .vatAmount(request.getVatAmount() != null ? request.getVatAmount() : calculateVAT(request.getTotalPrice()))
+                    .orderTime(request.getOrderTime())
+                    .orderStatus(OrderStatus.valueOf(request.getOrderStatus()))
+                    // 결제 유형이 없으면 카드로 간주
+                    .paymentType(request.getPaymentType() != null ? PaymentTypeEnum.valueOf(request.getPaymentType()) : PaymentTypeEnum.CARD)
+                    .paymentStatus(PaymentStatus.valueOf(request.getPaymentStatus()))
+                    .build();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException("잘못된 주문/결제 상태 값입니다: " + e.getMessage());
+        }
+    }
+
+    // 부가세 계산 로직
+    private BigDecimal calculateVAT(BigDecimal totalAmount) {
+        // 부가세 계산 (예: 10%)
+        return totalAmount.multiply(new BigDecimal("0.1"));
+    }
+}
@@ -4,12 +4,15 @@ import com.example.backend.dto.pos.DailyIncomeDTO;
 import com.example.backend.dto.pos.IncomeHistoryDTO;
 import com.example.backend.dto.pos.MonthlyIncomeDTO;
 import com.example.backend.exception.base_exceptions.BadRequestException;
-import com.example.backend.model.BUSINESS.QBusinessRegistration;
-import com.example.backend.model.POS.QPos;
 import com.example.backend.model.POS.QPosSales;
-import com.example.backend.model.QMember;
+import com.example.backend.model.POS.QPosSalesDaily;
 import com.example.backend.model.enumSet.PaymentTypeEnum;
+import com.example.backend.service.AggregateCache;
+import com.example.backend.service.TenantContextService;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +21,7 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.Year;
 import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
@@ -30,20 +34,12 @@ import java.util.stream.Collectors;
 public class PosService {
 
     private final JPAQueryFactory queryFactory;
+    private final TenantContextService tenantContextService;
+    private final AggregateCache aggregateCache;
 
     // 로그인한 유저의 posId를 가져오는 로직
     private Long getPosIdByMemberId(Long memberId) {
-        QPos qPos = QPos.pos;
-        QBusinessRegistration qBusinessRegistration = QBusinessRegistration.businessRegistration;
-        QMember qMember = QMember.member;
-
-        Long posId = queryFactory
-                .select(qPos.posId)
-                .from(qMember)
-                .join(qMember.businessRegistration, qBusinessRegistration)
-                .join(qBusinessRegistration.pos, qPos)
-                .where(qMember.memberId.eq(memberId))
-                .fetchOne();
+        Long posId = tenantContextService.resolve(memberId).getPosId();
 
         if (posId == null) {
             throw new BadRequestException("해당 사용자는 포스가 없습니다.");
@@ -52,160 +48,40 @@ public class PosService {
     }
 
 
-    // 월 매출 요약 및 일별 매출 리스트 반환
+    // 월 매출 요약 및 일별 매출 리스트 반환 (pos_sales_daily 롤업 기준)
     public MonthlyIncomeDTO getMonthlyIncomeSummary(Long memberId, YearMonth month) {
         Long posId = getPosIdByMemberId(memberId);
-        QPosSales qposSales = QPosSales.posSales;
 
-        BigDecimal monthlyTotalIncome = queryFactory
-                .select(qposSales.totalPrice.sum())
-                .from(qposSales)
-                .where(qposSales.posId.posId.eq(posId)
-                        .and(qposSales.orderTime.between(month.atDay(1).atStartOfDay(), month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
+        List<DailyIncomeDTO> dailyIncomeList = getDailyIncomes(posId, month.atDay(1), month.plusMonths(1).atDay(1));
 
-        BigDecimal monthlyCardIncome = queryFactory
-                .select(qposSales.totalPrice.sum())
-                .from(qposSales)
-                .where(qposSales.posId.posId.eq(posId)
-                        .and(qposSales.paymentType.eq(PaymentTypeEnum.CARD))
-                        .and(qposSales.orderTime.between(month.atDay(1).atStartOfDay(), month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
-
-        BigDecimal monthlyCashIncome = queryFactory
-                .select(qposSales.totalPrice.sum())
-                .from(qposSales)
-                .where(qposSales.posId.posId.eq(posId)
-                        .and(qposSales.paymentType.eq(PaymentTypeEnum.CASH))
-                        .and(qposSales.orderTime.between(month.atDay(1).atStartOfDay(), month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
-
-        List<DailyIncomeDTO> dailyIncomeList = queryFactory
-                .select(
-                        qposSales.orderTime,
-                        qposSales.totalPrice.sum(),
-                        new CaseBuilder()
-                                .when(qposSales.paymentType.eq(PaymentTypeEnum.CARD))
-                                .then(qposSales.totalPrice.sum())
-                                .otherwise(BigDecimal.ZERO),
-                        new CaseBuilder()
-                                .when(qposSales.paymentType.eq(PaymentTypeEnum.CASH))
-                                .then(qposSales.totalPrice.sum())
-                                .otherwise(BigDecimal.ZERO)
-                )
-                .from(qposSales)
-                .where(qposSales.posId.posId.eq(posId)
-                        .and(qposSales.orderTime.between(month.atDay(1).atStartOfDay(), month.atEndOfMonth().atTime(23, 59, 59))))
-                .groupBy(qposSales.orderTime,
-                        qposSales.orderTime.year(),
-                        qposSales.orderTime.month(),
-                        qposSales.orderTime.dayOfMonth(),
-                        qposSales.paymentType
-                )
-                .fetch()
-                .stream()
-                .map(tuple -> new DailyIncomeDTO(
-                        tuple.get(qposSales.orderTime).toLocalDate(),
-                        tuple.get(qposSales.totalPrice.sum()),
-                        tuple.get(new CaseBuilder()
-                                .when(qposSales.paymentType.eq(PaymentTypeEnum.CARD))
-                                .then(qposSales.totalPrice.sum())
-                                .otherwise(BigDecimal.ZERO)),
-                        tuple.get(new CaseBuilder()
-                                .when(qposSales.paymentType.eq(PaymentTypeEnum.CASH))
-                                .then(qposSales.totalPrice.sum())
-                                .otherwise(BigDecimal.ZERO))
-                ))
-                .collect(Collectors.toList());
+        BigDecimal monthlyTotalIncome = BigDecimal.ZERO;
+        BigDecimal monthlyCardIncome = BigDecimal.ZERO;
+        BigDecimal monthlyCashIncome = BigDecimal.ZERO;
+        for (DailyIncomeDTO daily : dailyIncomeList) {
+            monthlyTotalIncome = monthlyTotalIncome.add(daily.getTotalIncome());
+            monthlyCardIncome = monthlyCardIncome.add(daily.getCardIncome());
+            monthlyCashIncome = monthlyCashIncome.add(daily.getCashIncome());
+        }
 
-        return new MonthlyIncomeDTO(
-                monthlyTotalIncome != null ? monthlyTotalIncome : BigDecimal.ZERO,
-                monthlyCardIncome != null ? monthlyCardIncome : BigDecimal.ZERO,
-                monthlyCashIncome != null ? monthlyCashIncome : BigDecimal.ZERO,
-                dailyIncomeList
-        );
+        return new MonthlyIncomeDTO(monthlyTotalIncome, monthlyCardIncome, monthlyCashIncome, dailyIncomeList);
     }
 
     // 특정 일 매출 세부 정보 반환
     public DailyIncomeDTO getDailyIncomeDetail(Long memberId, LocalDate date) {
         Long posId = getPosIdByMemberId(memberId);
-        QPosSales qposSales = QPosSales.posSales;
-
-
-        BigDecimal totalIncome = queryFactory
-                .select(qposSales.totalPrice.sum())
-                .from(qposSales)
-                .where(qposSales.posId.posId.eq(posId)
-                        .and(qposSales.orderTime.year().eq(date.getYear()))
-                        .and(qposSales.orderTime.month().eq(date.getMonthValue()))
-                        .and(qposSales.orderTime.dayOfMonth().eq(date.getDayOfMonth())))
-                .fetchOne();
-
-        BigDecimal cardIncome = queryFactory
-                .select(qposSales.totalPrice.sum())
-                .from(qposSales)
-                .where(qposSales.posId.posId.eq(posId)
-                        .and(qposSales.paymentType.eq(PaymentTypeEnum.CARD))
-                        .and(qposSales.orderTime.year().eq(date.getYear()))
-                        .and(qposSales.orderTime.month().eq(date.getMonthValue()))
-                        .and(qposSales.orderTime.dayOfMonth().eq(date.getDayOfMonth())))
-                .fetchOne();
 
-        BigDecimal cashIncome = queryFactory
-                .select(qposSales.totalPrice.sum())
-                .from(qposSales)
-                .where(qposSales.posId.posId.eq(posId)
-                        .and(qposSales.paymentType.eq(PaymentTypeEnum.CASH))
-                        .and(qposSales.orderTime.year().eq(date.getYear()))
-                        .and(qposSales.orderTime.month().eq(date.getMonthValue()))
-                        .and(qposSales.orderTime.dayOfMonth().eq(date.getDayOfMonth())))
-                .fetchOne();
-
-        return new DailyIncomeDTO(
-                date,
-                totalIncome != null ? totalIncome : BigDecimal.ZERO,
-                cardIncome != null ? cardIncome : BigDecimal.ZERO,
-                cashIncome != null ? cashIncome : BigDecimal.ZERO
-        );
+        return getDailyIncomes(posId, date, date.plusDays(1)).stream()
+                .findFirst()
+                .orElseGet(() -> new DailyIncomeDTO(date, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO));
     }
 
     // 이번 달 매출 및 지난 2개월의 월 매출 정보
     public IncomeHistoryDTO getIncomeHistory(Long memberId, YearMonth month) {
         Long posId = getPosIdByMemberId(memberId);
-        QPosSales qposSales = QPosSales.posSales;
 
-
-        // 이번 달 매출
-        BigDecimal totalIncome0Ago = queryFactory
-                .select(qposSales.totalPrice.sum())
-                .from(qposSales)
-                .where(qposSales.posId.posId.eq(posId)
-                        .and(qposSales.orderTime.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
-
-        // 1개월 전 매출
-        YearMonth oneMonthAgo = month.minusMonths(1);
-        BigDecimal totalIncome1Ago = queryFactory
-                .select(qposSales.totalPrice.sum())
-                .from(qposSales)
-                .where(qposSales.posId.posId.eq(posId)
-                        .and(qposSales.orderTime.between(
-                                oneMonthAgo.atDay(1).atStartOfDay(),
-                                oneMonthAgo.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
-
-        // 2개월 전 매출
-        YearMonth twoMonthsAgo = month.minusMonths(2);
-        BigDecimal totalIncome2Ago = queryFactory
-                .select(qposSales.totalPrice.sum())
-                .from(qposSales)
-                .where(qposSales.posId.posId.eq(posId)
-                        .and(qposSales.orderTime.between(
-                                twoMonthsAgo.atDay(1).atStartOfDay(),
-                                twoMonthsAgo.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
+        BigDecimal totalIncome0Ago = sumMonthlyRevenue(posId, month);
+        BigDecimal totalIncome1Ago = sumMonthlyRevenue(posId, month.minusMonths(1));
+        BigDecimal totalIncome2Ago = sumMonthlyRevenue(posId, month.minusMonths(2));
 
         return new IncomeHistoryDTO(
                 totalIncome2Ago != null ? totalIncome2Ago : BigDecimal.ZERO,
@@ -217,96 +93,116 @@ public class PosService {
 
     public BigDecimal calculateMonthlyRevenue(Long memberId, YearMonth month) {
         Long posId = getPosIdByMemberId(memberId);
-        QPosSales qposSales = QPosSales.posSales;
+        return sumMonthlyRevenue(posId, month);
+    }
+
+    // 연간 월별 매출 합계 (월 -> 매출, 매출이 없는 달은 빠짐)
+    public Map<Integer, BigDecimal> calculateMonthlyRevenuesOfYear(Long posId, Year year) {
+        return aggregateCache.get(posId, "pos.revenue.monthly-of-year", year, () -> queryMonthlyRevenuesOfYear(posId, year));
+    }
+
+    private Map<Integer, BigDecimal> queryMonthlyRevenuesOfYear(Long posId, Year year) {
+        QPosSalesDaily qDaily = QPosSalesDaily.posSalesDaily;
+        NumberExpression<Integer> salesMonth = qDaily.salesDate.month();
 
         return queryFactory
-                .select(qposSales.totalPrice.sum())
-                .from(qposSales)
-                .where(qposSales.posId.posId.eq(posId)
-                        .and(qposSales.orderTime.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
+                .select(salesMonth, qDaily.totalSales.sum())
+                .from(qDaily)
+                .where(qDaily.posId.eq(posId)
+                        .and(qDaily.salesDate.goe(year.atDay(1)))
+                        .and(qDaily.salesDate.lt(year.plusYears(1).atDay(1))))
+                .groupBy(salesMonth)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(salesMonth),
+                        tuple -> orZero(tuple.get(qDaily.totalSales.sum()))));
+    }
 
+    // [from, to) 기간의 일별 총/카드/현금 매출 (일자당 한 행)
+    private List<DailyIncomeDTO> getDailyIncomes(Long posId, LocalDate from, LocalDate to) {
+        return aggregateCache.get(posId, "pos.income.daily", List.of(from, to), () -> queryDailyIncomes(posId, from, to));
     }
 
-    public Map<String, Object> calculateAverageMonthlyMetrics(YearMonth month) {
-        QPosSales qPosSales = QPosSales.posSales;
+    private List<DailyIncomeDTO> queryDailyIncomes(Long posId, LocalDate from, LocalDate to) {
+        QPosSalesDaily qDaily = QPosSalesDaily.posSalesDaily;
 
-        // 1. 전체 사업자의 월 매출 평균
-        BigDecimal totalMonthlyIncome = queryFactory
-                .select(qPosSales.totalPrice.sum())
-                .from(qPosSales)
-                .where(qPosSales.orderTime.between(
-                        month.atDay(1).atStartOfDay(),
-                        month.atEndOfMonth().atTime(23, 59, 59)))
-                .fetchOne();
+        NumberExpression<BigDecimal> totalSum = qDaily.totalSales.sum();
+        NumberExpression<BigDecimal> cardSum = dailySumWhen(qDaily.paymentType.eq(PaymentTypeEnum.CARD));
+        NumberExpression<BigDecimal> cashSum = dailySumWhen(qDaily.paymentType.eq(PaymentTypeEnum.CASH));
 
-        BigDecimal averageMonthlyIncome = totalMonthlyIncome != null
-                ? totalMonthlyIncome.divide(BigDecimal.valueOf(5), RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
+        return queryFactory
+                .select(qDaily.salesDate, totalSum, cardSum, cashSum)
+                .from(qDaily)
+                .where(qDaily.posId.eq(posId)
+                        .and(qDaily.salesDate.goe(from))
+                        .and(qDaily.salesDate.lt(to)))
+                .groupBy(qDaily.salesDate)
+                .orderBy(qDaily.salesDate.asc())
+                .fetch()
+                .stream()
+                .map(tuple -> new DailyIncomeDTO(
+                        tuple.get(qDaily.salesDate),
+                        orZero(tuple.get(totalSum)),
+                        orZero(tuple.get(cardSum)),
+                        orZero(tuple.get(cashSum))
+                ))
+                .collect(Collectors.toList());
+    }
 
-        // 2. 전체 사업자의 월 카드 매출 평균
-        BigDecimal totalCardIncome = queryFactory
-                .select(qPosSales.totalPrice.sum())
-                .from(qPosSales)
-                .where(qPosSales.paymentType.eq(PaymentTypeEnum.CARD)
-                        .and(qPosSales.orderTime.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
+    // 해당 월 매출 합계 (매출이 없으면 null)
+    private BigDecimal sumMonthlyRevenue(Long posId, YearMonth month) {
+        return aggregateCache.get(posId, "pos.revenue.monthly", month, () -> queryMonthlyRevenue(posId, month));
+    }
 
-        BigDecimal averageMonthlyCardIncome = totalCardIncome != null
-                ? totalCardIncome.divide(BigDecimal.valueOf(5), RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
+    private BigDecimal queryMonthlyRevenue(Long posId, YearMonth month) {
+        QPosSalesDaily qDaily = QPosSalesDaily.posSalesDaily;
 
-        // 3. 전체 사업자의 월 현금 매출 평균
-        BigDecimal totalCashIncome = queryFactory
-                .select(qPosSales.totalPrice.sum())
-                .from(qPosSales)
-                .where(
-                        qPosSales.paymentType.eq(PaymentTypeEnum.CASH)
-                        .and(qPosSales.orderTime.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
+        return queryFactory
+                .select(qDaily.totalSales.sum())
+                .from(qDaily)
+                .where(qDaily.posId.eq(posId)
+                        .and(qDaily.salesDate.goe(month.atDay(1)))
+                        .and(qDaily.salesDate.lt(month.plusMonths(1).atDay(1))))
                 .fetchOne();
+    }
 
-        BigDecimal averageMonthlyCashIncome = totalCashIncome != null
-                ? totalCashIncome.divide(BigDecimal.valueOf(5), RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
+    // 전체 사업자 월 평균 매출 지표 (테넌트와 무관한 집계)
+    public Map<String, Object> calculateAverageMonthlyMetrics(YearMonth month) {
+        return aggregateCache.get(null, "pos.average-metrics", month, () -> queryAverageMonthlyMetrics(month));
+    }
 
-        // 4. 아침, 점심, 저녁 시간대별 매출 합계 계산
-        BigDecimal morningSales = queryFactory
-                .select(qPosSales.totalPrice.sum())
-                .from(qPosSales)
-                .where(qPosSales.orderTime.hour().between(6, 11)
-                        .and(qPosSales.orderTime.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
+    private Map<String, Object> queryAverageMonthlyMetrics(YearMonth month) {
+        QPosSales qPosSales = QPosSales.posSales;
 
-        BigDecimal afternoonSales = queryFactory
-                .select(qPosSales.totalPrice.sum())
+        // 1. 조건부 집계로 전체/카드/현금/시간대별 매출과 매출이 있는 POS 수를 한 번의 스캔으로 조회
+        NumberExpression<BigDecimal> totalSum = qPosSales.totalPrice.sum();
+        NumberExpression<BigDecimal> cardSum = sumWhen(qPosSales.paymentType.eq(PaymentTypeEnum.CARD));
+        NumberExpression<BigDecimal> cashSum = sumWhen(qPosSales.paymentType.eq(PaymentTypeEnum.CASH));
+        NumberExpression<BigDecimal> morningSum = sumWhen(qPosSales.orderTime.hour().between(6, 11));
+        NumberExpression<BigDecimal> afternoonSum = sumWhen(qPosSales.orderTime.hour().between(12, 17));
+        NumberExpression<BigDecimal> eveningSum = sumWhen(qPosSales.orderTime.hour().between(18, 23));
+        NumberExpression<Long> posCount = qPosSales.posId.posId.countDistinct();
+
+        Tuple result = queryFactory
+                .select(totalSum, cardSum, cashSum, morningSum, afternoonSum, eveningSum, posCount)
                 .from(qPosSales)
-                .where(qPosSales.orderTime.hour().between(12, 17)
-                        .and(qPosSales.orderTime.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
+                .where(qPosSales.orderTime.goe(month.atDay(1).atStartOfDay())
+                        .and(qPosSales.orderTime.lt(month.plusMonths(1).atDay(1).atStartOfDay())))
                 .fetchOne();
 
-        BigDecimal eveningSales = queryFactory
-                .select(qPosSales.totalPrice.sum())
-                .from(qPosSales)
-                .where(qPosSales.orderTime.hour().between(18, 23)
-                        .and(qPosSales.orderTime.between(
-                                month.atDay(1).atStartOfDay(),
-                                month.atEndOfMonth().atTime(23, 59, 59))))
-                .fetchOne();
+        // 2. 실제 매출이 있는 POS 수로 나눈 사업자 평균
+        Long activePosCount = result != null ? result.get(posCount) : null;
+        BigDecimal divisor = BigDecimal.valueOf(activePosCount != null ? activePosCount : 0L);
+
+        BigDecimal averageMonthlyIncome = average(result != null ? result.get(totalSum) : null, divisor);
+        BigDecimal averageMonthlyCardIncome = average(result != null ? result.get(cardSum) : null, divisor);
+        BigDecimal averageMonthlyCashIncome = average(result != null ? result.get(cashSum) : null, divisor);
 
-        // Null 처리
-        morningSales = morningSales != null ? morningSales : BigDecimal.ZERO;
-        afternoonSales = afternoonSales != null ? afternoonSales : BigDecimal.ZERO;
-        eveningSales = eveningSales != null ? eveningSales : BigDecimal.ZERO;
+        // 3. 아침, 점심, 저녁 시간대별 매출 합계 (Null 처리)
+        BigDecimal morningSales = orZero(result != null ? result.get(morningSum) : null);
+        BigDecimal afternoonSales = orZero(result != null ? result.get(afternoonSum) : null);
+        BigDecimal eveningSales = orZero(result != null ? result.get(eveningSum) : null);
 
         // 5. 매출이 가장 높은 시간대 판별
         String peakSalesPeriod;
@@ -335,4 +231,34 @@ public class PosService {
         return averageMetrics;
     }
 
+    // 조건에 맞는 주문의 total_price 만 더하는 조건부 합계
+    private NumberExpression<BigDecimal> sumWhen(Predicate condition) {
+        QPosSales qPosSales = QPosSales.posSales;
+        return new CaseBuilder()
+                .when(condition)
+                .then(qPosSales.totalPrice)
+                .otherwise(BigDecimal.ZERO)
+                .sum();
+    }
+
+    private NumberExpression<BigDecimal> dailySumWhen(Predicate condition) {
+        QPosSalesDaily qDaily = QPosSalesDaily.posSalesDaily;
+        return new CaseBuilder()
+                .when(condition)
+                .then(qDaily.totalSales)
+                .otherwise(BigDecimal.ZERO)
+                .sum();
+    }
+
+    private BigDecimal average(BigDecimal total, BigDecimal posCount) {
+        if (total == null || posCount.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return total.divide(posCount, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
 }
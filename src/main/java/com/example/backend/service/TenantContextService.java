@@ -0,0 +1,119 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.member.TenantContextDTO;
+import com.example.backend.model.BANK.QAccount;
+import com.example.backend.model.BUSINESS.QBusinessRegistration;
+import com.example.backend.model.POS.QPos;
+import com.example.backend.model.QMember;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+//////////// 회원 -> 사업자/계좌/포스 식별자 조회
+/// 1. 같은 요청 안에서는 request attribute 에 담아 한 번만 조회
+/// 2. 요청 사이에는 노드 로컬 캐시 (최대 크기 + TTL) 로 재사용 (사업자/계좌/포스가 모두 연결된 경우만)
+/// 3. 사업자/계좌/포스 인증 시 evict 로 바로 무효화 (다른 노드는 TTL 이 지나면 갱신)
+
+@Service
+@Slf4j
+public class TenantContextService {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = TenantContextService.class.getName() + ".";
+
+    private final JPAQueryFactory queryFactory;
+    private final Cache<Long, TenantContextDTO> cache;
+
+    public TenantContextService(JPAQueryFactory queryFactory,
+                                @Value("${tenant.cache.max-size:10000}") long maxSize,
+                                @Value("${tenant.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.queryFactory = queryFactory;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public TenantContextDTO resolve(Long memberId) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + memberId;
+
+        if (request != null && request.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST) instanceof TenantContextDTO context) {
+            return context;
+        }
+
+        TenantContextDTO context = cache.getIfPresent(memberId);
+        if (context == null) {
+            context = loadTenantContext(memberId);
+            // 인증이 덜 끝난 회원은 캐시하지 않음 (다른 노드에서 인증해도 TTL 동안 미연결로 보이지 않도록)
+            if (isComplete(context)) {
+                cache.put(memberId, context);
+            }
+        }
+
+        if (request != null) {
+            request.setAttribute(attributeName, context, RequestAttributes.SCOPE_REQUEST);
+        }
+        return context;
+    }
+
+    // 사업자/계좌/포스 연결 정보가 바뀌었을 때 호출
+    public void evict(Long memberId) {
+        cache.invalidate(memberId);
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + memberId, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private boolean isComplete(TenantContextDTO context) {
+        return context.getBusinessRegistrationId() != null
+                && context.getAccountId() != null
+                && context.getPosId() != null;
+    }
+
+    // 회원 하나에 대해 사업자, 계좌, 포스를 한 번의 조인으로 조회
+    private TenantContextDTO loadTenantContext(Long memberId) {
+        QMember qMember = QMember.member;
+        QBusinessRegistration qBusinessRegistration = QBusinessRegistration.businessRegistration;
+        QAccount qAccount = QAccount.account;
+        QPos qPos = QPos.pos;
+
+        Tuple result = queryFactory
+                .select(
+                        qBusinessRegistration.businessRegistrationId,
+                        qAccount.accountId,
+                        qPos.posId,
+                        qBusinessRegistration.address,
+                        qBusinessRegistration.region
+                )
+                .from(qMember)
+                .leftJoin(qMember.businessRegistration, qBusinessRegistration)
+                .leftJoin(qBusinessRegistration.account, qAccount)
+                .leftJoin(qBusinessRegistration.pos, qPos)
+                .where(qMember.memberId.eq(memberId))
+                .fetchOne();
+
+        if (result == null) {
+            return new TenantContextDTO(memberId, null, null, null, null, null);
+        }
+
+        log.debug("회원 {} 사업자 정보 조회", memberId);
+        return new TenantContextDTO(
+                memberId,
+                result.get(qBusinessRegistration.businessRegistrationId),
+                result.get(qAccount.accountId),
+                result.get(qPos.posId),
+                result.get(qBusinessRegistration.address),
+                result.get(qBusinessRegistration.region)
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.backend.util;
+
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+//////////// 날짜 구간 단위 (일 / 주 / 월)
+/// 1. split: [from, to) 를 단위별 구간으로 나눔 (주는 월~일 기준, 첫/마지막 구간은 범위에 맞게 잘림)
+/// 2. indexOf: 날짜 컬럼이 속한 구간 번호를 계산하는 SQL 식 (split 의 DateBucket.index 와 같은 값)
+///    -> 구간별 합계를 구간 수만큼의 쿼리가 아니라 GROUP BY 한 번으로 계산
+
+public enum BucketUnit {
+
+    DAY {
+        @Override
+        LocalDate nextStart(LocalDate start) {
+            return start.plusDays(1);
+        }
+
+        @Override
+        public NumberExpression<Integer> indexOf(DateTimeExpression<LocalDateTime> date, LocalDate from) {
+            return daysFrom(date, from);
+        }
+    },
+
+    WEEK {
+        @Override
+        LocalDate nextStart(LocalDate start) {
+            return start.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public NumberExpression<Integer> indexOf(DateTimeExpression<LocalDateTime> date, LocalDate from) {
+            // from 이 속한 주의 월요일부터 센 일수 / 7
+            int offset = from.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue();
+            return Expressions.numberTemplate(Integer.class, "floor(({0} + {1}) / 7)", daysFrom(date, from), offset);
+        }
+    },
+
+    MONTH {
+        @Override
+        LocalDate nextStart(LocalDate start) {
+            return start.withDayOfMonth(1).plusMonths(1);
+        }
+
+        @Override
+        public NumberExpression<Integer> indexOf(DateTimeExpression<LocalDateTime> date, LocalDate from) {
+            return date.year().multiply(12).add(date.month())
+                    .subtract(from.getYear() * 12 + from.getMonthValue());
+        }
+    };
+
+    // start 가 속한 구간의 다음 구간 시작일
+    abstract LocalDate nextStart(LocalDate start);
+
+    // 날짜 컬럼 -> 구간 번호 SQL 식
+    public abstract NumberExpression<Integer> indexOf(DateTimeExpression<LocalDateTime> date, LocalDate from);
+
+    // [from, to) 를 구간 목록으로 나눔
+    public List<DateBucket> split(LocalDate from, LocalDate to) {
+        List<DateBucket> buckets = new ArrayList<>();
+        LocalDate start = from;
+        while (start.isBefore(to)) {
+            LocalDate next = nextStart(start);
+            LocalDate end = next.isBefore(to) ? next : to;
+            buckets.add(new DateBucket(buckets.size(), start, end));
+            start = end;
+        }
+        return buckets;
+    }
+
+    private static NumberExpression<Integer> daysFrom(DateTimeExpression<LocalDateTime> date, LocalDate from) {
+        return Expressions.numberTemplate(Integer.class, "function('datediff', {0}, {1})", date, from);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backend.util;
+
+import java.time.LocalDate;
+
+// 집계 구간 하나 [start, endExclusive) / index 는 구간 목록에서의 순서
+public record DateBucket(int index, LocalDate start, LocalDate endExclusive) {
+
+    // 구간의 마지막 날
+    public LocalDate end() {
+        return endExclusive.minusDays(1);
+    }
+}
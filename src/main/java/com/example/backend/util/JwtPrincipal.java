@@ -0,0 +1,11 @@
+package com.example.backend.util;
+
+import java.util.Date;
+
+// 검증된 토큰에서 꺼낸 불변 인증 정보
+public record JwtPrincipal(Long memberId, String loginId, Date expiration) {
+
+    public boolean isExpired() {
+        return expiration != null && !expiration.after(new Date());
+    }
+}
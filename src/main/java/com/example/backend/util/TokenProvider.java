@@ -1,5 +1,7 @@
 package com.example.backend.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -12,6 +14,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
 
@@ -25,8 +31,19 @@ public class TokenProvider {
     @Value("${JWT.SECRET}")
     private String secretKey;
 
+    // 최근 검증된 토큰 캐시 최대 건수
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheSize;
+
     private byte[] keyBytes;
 
+    // 서명 키와 파서는 한 번만 만들어서 재사용 (JwtParser 는 불변이라 스레드 공유 가능)
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // 토큰 SHA-256 digest -> 검증 결과 (만료 전까지 재검증 생략)
+    private Cache<String, JwtPrincipal> verifiedTokens;
+
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 60; // 1시간
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 7; // 7일
 
@@ -34,6 +51,11 @@ public class TokenProvider {
     @PostConstruct
     public void init() {
         this.keyBytes = Base64.getDecoder().decode(secretKey);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .build();
     }
 
     // (공통) 토큰 생성 로직
@@ -44,54 +66,65 @@ public class TokenProvider {
                 .claim("memberId", memberId)  // memberId를 Claims에 추가
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + expireTime))
-                .signWith(Keys.hmacShaKeyFor(keyBytes), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     // 액세스 토큰 생성 로직
     public String createAccessToken(String loginId, Long memberId) {
-        log.info("Creating Access Token for loginId: {}", loginId);
+        log.debug("Creating Access Token for loginId: {}", loginId);
         return createToken(loginId, memberId, ACCESS_TOKEN_EXPIRE_TIME);
     }
 
     // 리프레시 토큰 생성 로직
     public String createRefreshToken(String loginId, Long memberId) {
-        log.info("Creating Refresh Token for loginId: {}", loginId);
+        log.debug("Creating Refresh Token for loginId: {}", loginId);
         return createToken(loginId, memberId, REFRESH_TOKEN_EXPIRE_TIME);
     }
 
+    // 토큰을 한 번만 파싱해서 서명/만료를 검증하고 인증 정보를 반환
+    // 만료 시 ExpiredJwtException, 그 외 위조/형식 오류 시 JwtException
+    public JwtPrincipal verify(String token) {
+        String digest = digest(token);
+
+        JwtPrincipal cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            // 만료된 토큰은 다시 파싱해서 ExpiredJwtException (refresh 처리용 claims 포함) 을 던지게 함
+            verifiedTokens.invalidate(digest);
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        JwtPrincipal principal = new JwtPrincipal(
+                claims.get("memberId", Long.class),
+                claims.getSubject(),
+                claims.getExpiration()
+        );
+        verifiedTokens.put(digest, principal);
+        return principal;
+    }
+
     // 토큰에서 account 추출
     public String getLoginIdFromToken(String token) {
-        log.info("Extracting loginId from token");
-        return Jwts.parserBuilder()
-                .setSigningKey(keyBytes)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return verify(token).loginId();
     }
 
     // 토큰에서 memberId 추출
     public Long getMemberIdFromToken(String token) {
-        log.info("Extracting memberId from token");
-        return Jwts.parserBuilder()
-                .setSigningKey(keyBytes)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("memberId", Long.class);
+        return verify(token).memberId();
     }
 
     // 토큰 유효성 검증 로직
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(keyBytes).build().parseClaimsJws(token);
-            log.info("토큰이 유효합니다.");
+            verify(token);
             return true;
         } catch (ExpiredJwtException e) {
-            log.warn("만료된 JWT 토큰입니다."); // 만료된 토큰인 경우
+            log.debug("만료된 JWT 토큰입니다."); // 만료된 토큰인 경우
             throw e;
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             log.warn("유효하지 않은 JWT 토큰입니다.");
         }
         return false; // 유효하지 않은 토큰인 경우 -> refreshToken
@@ -134,11 +167,16 @@ public class TokenProvider {
 
     // 토큰 만료 시간 가져오기
     public Date getExpirationDate(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(keyBytes)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
+        return verify(token).expiration();
+    }
+
+    // 원본 토큰 대신 digest 를 캐시 키로 사용
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
     }
 }
\ No newline at end of file
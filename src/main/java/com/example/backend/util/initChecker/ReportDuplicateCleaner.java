@@ -0,0 +1,55 @@
+package com.example.backend.util.initChecker;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+//////////// report 중복 행 정리
+/// uk_report_business_month_type 추가 이전에 동시 생성으로 같은 (사업자, 월, 유형) 리포트가 여러 개 저장된 경우가 있음
+/// 중복이 남아 있으면 ddl-auto: update 의 유니크 키 추가가 실패하고 로그만 남기므로, 스키마 갱신 전에 최신 행만 남기고 지움
+
+@Component(ReportDuplicateCleaner.BEAN_NAME)
+@RequiredArgsConstructor
+@Slf4j
+public class ReportDuplicateCleaner {
+
+    static final String BEAN_NAME = "reportDuplicateCleaner";
+
+    // 같은 키에 더 최신 (report_id 가 큰) 행이 있는 행 삭제
+    private static final String DELETE_DUPLICATES_SQL = """
+            DELETE older FROM report older
+            JOIN report newer
+              ON newer.business_registration_id = older.business_registration_id
+             AND newer.report_month = older.report_month
+             AND newer.report_type = older.report_type
+             AND newer.report_id > older.report_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void deleteDuplicates() {
+        try {
+            int deleted = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+            if (deleted > 0) {
+                log.info("중복 리포트 정리 완료: {}건", deleted);
+            }
+        } catch (DataAccessException e) {
+            // 최초 배포라 report 테이블이 아직 없는 경우
+            log.warn("중복 리포트 정리 생략: {}", e.getMessage());
+        }
+    }
+
+    // EntityManagerFactory (ddl-auto: update) 가 이 정리 이후에 만들어지도록 함
+    @Component
+    static class SchemaUpdateDependency extends EntityManagerFactoryDependsOnPostProcessor {
+
+        SchemaUpdateDependency() {
+            super(BEAN_NAME);
+        }
+    }
+}
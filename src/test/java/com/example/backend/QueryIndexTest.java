@@ -0,0 +1,349 @@
+package com.example.backend;
+
+import com.example.backend.model.BANK.Account;
+import com.example.backend.model.BANK.AccountHistory;
+import com.example.backend.model.BUSINESS.BusinessRegistration;
+import com.example.backend.model.BUSINESS.Goals;
+import com.example.backend.model.BUSINESS.QGoals;
+import com.example.backend.model.POS.Pos;
+import com.example.backend.model.POS.PosSales;
+import com.example.backend.model.POS.PosSalesDaily;
+import com.example.backend.model.enumSet.OrderStatus;
+import com.example.backend.model.enumSet.PaymentStatus;
+import com.example.backend.model.enumSet.PaymentTypeEnum;
+import com.example.backend.model.enumSet.TransactionTypeEnum;
+import com.example.backend.repository.MonthlyFinancialSummaryRepository;
+import com.example.backend.repository.PosSalesDailyRepository;
+import com.example.backend.service.BANK.AccountService;
+import com.example.backend.service.POS.PosService;
+import com.example.backend.util.BucketUnit;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 서비스가 실제로 보내는 SQL (QueryDSL / JdbcTemplate) 을 캡처해서 같은 바인딩 값으로 EXPLAIN
+// 대표 데이터를 넣은 트랜잭션 안에서 확인하고 끝나면 롤백 (실제 MariaDB 스키마 필요)
+// 두 사업자의 1년치 데이터 중 한 사업자만 조회하므로 옵티마이저가 해당 인덱스를 골라야 함
+@SpringBootTest
+@Transactional
+public class QueryIndexTest {
+
+    private static final long ACCOUNT_ID = 990_000_001L;
+    private static final long OTHER_ACCOUNT_ID = 990_000_002L;
+    private static final long POS_ID = 990_000_001L;
+    private static final long OTHER_POS_ID = 990_000_002L;
+    private static final Year YEAR = Year.of(2024);
+    private static final YearMonth MONTH = YearMonth.of(2024, 10);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private PosService posService;
+
+    @Autowired
+    private PosSalesDailyRepository posSalesDailyRepository;
+
+    @Autowired
+    private MonthlyFinancialSummaryRepository monthlyFinancialSummaryRepository;
+
+    private BusinessRegistration business;
+
+    @BeforeEach
+    public void seed() {
+        Account account = persistAccount(ACCOUNT_ID);
+        Account otherAccount = persistAccount(OTHER_ACCOUNT_ID);
+        Pos pos = em.merge(Pos.builder().posId(POS_ID).brNum("query-index-pos-" + POS_ID).build());
+        Pos otherPos = em.merge(Pos.builder().posId(OTHER_POS_ID).brNum("query-index-pos-" + OTHER_POS_ID).build());
+
+        business = persistBusiness("query-index-br-1", account, pos);
+        BusinessRegistration otherBusiness = persistBusiness("query-index-br-2", otherAccount, otherPos);
+
+        // 두 계좌 / 두 POS 에 1년치 데이터 (조회 대상은 그 중 한 달 또는 하루)
+        for (LocalDate day = YEAR.atDay(1); day.getYear() == YEAR.getValue(); day = day.plusDays(1)) {
+            for (Account target : List.of(account, otherAccount)) {
+                persistHistory(target, day, TransactionTypeEnum.EXPENSE, day.getDayOfMonth() % 2 == 0 ? "재료비" : "임대료");
+                persistHistory(target, day, TransactionTypeEnum.REVENUE, null);
+            }
+            for (Pos target : List.of(pos, otherPos)) {
+                for (PaymentTypeEnum paymentType : PaymentTypeEnum.values()) {
+                    em.persist(PosSalesDaily.builder()
+                            .posId(target.getPosId())
+                            .salesDate(day)
+                            .paymentType(paymentType)
+                            .totalSales(BigDecimal.valueOf(10000))
+                            .orderCount(1)
+                            .vatAmount(BigDecimal.valueOf(1000))
+                            .build());
+                }
+            }
+        }
+
+        long orderId = 1;
+        for (LocalDate day = MONTH.atDay(1); !day.isAfter(MONTH.atEndOfMonth()); day = day.plusDays(1)) {
+            for (Pos target : List.of(pos, otherPos)) {
+                for (int hour = 9; hour < 21; hour++) {
+                    em.persist(PosSales.builder()
+                            .externalOrderId(orderId++)
+                            .posId(target)
+                            .orderTime(day.atTime(hour, 0))
+                            .totalPrice(BigDecimal.valueOf(5000))
+                            .vatAmount(BigDecimal.valueOf(500))
+                            .productName("test")
+                            .quantity(1)
+                            .orderStatus(OrderStatus.COMPLETED)
+                            .paymentType(hour % 2 == 0 ? PaymentTypeEnum.CARD : PaymentTypeEnum.CASH)
+                            .paymentStatus(PaymentStatus.APPROVED)
+                            .build());
+                }
+            }
+        }
+
+        for (int month = 1; month <= 12; month++) {
+            persistGoal(business, YearMonth.of(YEAR.getValue(), month));
+            persistGoal(otherBusiness, YearMonth.of(YEAR.getValue(), month));
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    // AccountService.calculateMonthlyExpensesOfYear
+    @Test
+    public void monthlyExpensesOfYearUsesCoveringIndex() {
+        List<CapturedSql> captured = SqlCapture.record(() -> accountService.calculateMonthlyExpensesOfYear(ACCOUNT_ID, YEAR));
+        assertUsesCoveringIndex("idx_account_history_account_type_date", statementOn(captured, "account_history"));
+    }
+
+    // AccountService.sumExpensesByBucket (주/일 단위 지출)
+    @Test
+    public void expensesByBucketUsesCoveringIndex() {
+        List<CapturedSql> captured = SqlCapture.record(() -> accountService.sumExpensesByBucket(
+                ACCOUNT_ID, MONTH.atDay(1), MONTH.plusMonths(1).atDay(1), BucketUnit.DAY));
+        assertUsesCoveringIndex("idx_account_history_account_type_date", statementOn(captured, "account_history"));
+    }
+
+    // 월 손익 스냅샷 갱신 시 한 달치 계좌 집계
+    @Test
+    public void financialSummaryRefreshUsesCoveringIndex() {
+        List<CapturedSql> captured = SqlCapture.record(() -> monthlyFinancialSummaryRepository
+                .refreshBusinessMonths(business.getBusinessRegistrationId(), List.of(MONTH)));
+        assertUsesCoveringIndex("idx_account_history_account_type_date", statementOn(captured, "from account_history"));
+        assertUsesCoveringIndex("idx_pos_sales_daily_cover", statementOn(captured, "from pos_sales_daily"));
+    }
+
+    // PosService.calculateMonthlyRevenuesOfYear
+    @Test
+    public void monthlyRevenuesOfYearUsesCoveringIndex() {
+        List<CapturedSql> captured = SqlCapture.record(() -> posService.calculateMonthlyRevenuesOfYear(POS_ID, YEAR));
+        assertUsesCoveringIndex("idx_pos_sales_daily_cover", statementOn(captured, "pos_sales_daily"));
+    }
+
+    // PosSalesDailyRepository 의 POS 하루치 재집계
+    @Test
+    public void posSalesDailyRefreshUsesCoveringIndex() {
+        List<CapturedSql> captured = SqlCapture.record(() -> posSalesDailyRepository
+                .refreshDays(Map.of(POS_ID, List.of(MONTH.atDay(15)))));
+        assertUsesCoveringIndex("idx_pos_sales_pos_time_cover", statementOn(captured, "from pos_sales"));
+    }
+
+    // GoalService 의 사업자 × 목표월 조회 (GoalService 와 같은 조건절)
+    @Test
+    public void goalsLookupUsesBusinessMonthIndex() {
+        QGoals qGoals = QGoals.goals;
+        List<CapturedSql> captured = SqlCapture.record(() -> queryFactory
+                .selectFrom(qGoals)
+                .where(qGoals.businessRegistration.businessRegistrationId.eq(business.getBusinessRegistrationId())
+                        .and(qGoals.goalMonth.eq(MONTH)))
+                .fetchOne());
+        assertUsesIndex("idx_goals_business_month", statementOn(captured, "goals"));
+    }
+
+    private Account persistAccount(long accountId) {
+        Account account = new Account();
+        account.setAccountId(accountId);
+        account.setBrNum("query-index-account-" + accountId);
+        account.setBalance(BigDecimal.ZERO);
+        return em.merge(account);
+    }
+
+    private BusinessRegistration persistBusiness(String brNum, Account account, Pos pos) {
+        BusinessRegistration registration = new BusinessRegistration();
+        registration.setBusinessType("음식점업");
+        registration.setBusinessItem("한식");
+        registration.setBrNum(brNum);
+        registration.setAddress("서울특별시 강남구 역삼동");
+        registration.setAccount(account);
+        registration.setPos(pos);
+        em.persist(registration);
+        return registration;
+    }
+
+    private void persistHistory(Account account, LocalDate day, TransactionTypeEnum type, String category) {
+        AccountHistory history = AccountHistory.builder()
+                .account(account)
+                .transactionDate(day.atTime(type == TransactionTypeEnum.EXPENSE ? 10 : 18, 0))
+                .amount(BigDecimal.valueOf(30000))
+                .category(category)
+                .fixedExpenses(false)
+                .build();
+        history.setTransactionType(type);
+        em.persist(history);
+    }
+
+    private void persistGoal(BusinessRegistration registration, YearMonth month) {
+        Goals goal = new Goals();
+        goal.setBusinessRegistration(registration);
+        goal.setGoalMonth(month);
+        goal.setRevenueGoal(BigDecimal.valueOf(1000000));
+        goal.setExpenseGoal(BigDecimal.valueOf(500000));
+        em.persist(goal);
+    }
+
+    private CapturedSql statementOn(List<CapturedSql> captured, String fragment) {
+        return captured.stream()
+                .filter(statement -> statement.sql().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").contains(fragment))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("'" + fragment + "' 쿼리가 실행되지 않음: " + captured));
+    }
+
+    // 시드 데이터로 EXPLAIN 한 실행 계획이 실제로 indexName 을 고르는지 확인
+    private Map<String, Object> assertUsesIndex(String indexName, CapturedSql statement) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.args());
+        assertFalse(plan.isEmpty());
+
+        Map<String, Object> row = plan.stream()
+                .filter(candidate -> String.valueOf(candidate.get("possible_keys")).contains(indexName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(indexName + " 를 쓸 수 없는 조건절 - sql=" + statement.sql() + " plan=" + plan));
+        assertEquals(indexName, row.get("key"), () -> "sql=" + statement.sql() + " plan=" + plan);
+        return row;
+    }
+
+    // 커버링 인덱스는 테이블 접근 없이 인덱스만 읽어야 함 (Extra 의 "Using index" / "Using index condition" 은 아님)
+    private void assertUsesCoveringIndex(String indexName, CapturedSql statement) {
+        Map<String, Object> row = assertUsesIndex(indexName, statement);
+        List<String> extra = List.of(String.valueOf(row.get("Extra")).split(";\\s*"));
+        assertTrue(extra.contains("Using index"), () -> "테이블 접근 발생 - sql=" + statement.sql() + " plan=" + row);
+    }
+
+    private record CapturedSql(String sql, Map<Integer, Object> params) {
+
+        Object[] args() {
+            return params.values().toArray();
+        }
+    }
+
+    // DataSource 를 감싸서 record 안에서 준비된 SQL 과 바인딩 값을 수집
+    private static final class SqlCapture {
+
+        private static final ThreadLocal<List<CapturedSql>> RECORDING = new ThreadLocal<>();
+
+        static List<CapturedSql> record(Runnable action) {
+            List<CapturedSql> captured = new ArrayList<>();
+            RECORDING.set(captured);
+            try {
+                action.run();
+            } finally {
+                RECORDING.remove();
+            }
+            return captured;
+        }
+
+        static DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? wrapConnection(connection) : result;
+            });
+        }
+
+        private static Connection wrapConnection(Connection connection) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                List<CapturedSql> captured = RECORDING.get();
+                if (captured != null && result instanceof PreparedStatement statement && args != null && args[0] instanceof String sql) {
+                    CapturedSql capturedSql = new CapturedSql(sql, new TreeMap<>());
+                    captured.add(capturedSql);
+                    return wrapStatement(statement, capturedSql);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement wrapStatement(PreparedStatement statement, CapturedSql capturedSql) {
+            return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    capturedSql.params().put(index, method.getName().equals("setNull") ? null : args[1]);
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, TargetHandler<T> handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private interface TargetHandler<T> {
+            Object handle(T target, java.lang.reflect.Method method, Object[] args) throws Throwable;
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor sqlCaptureDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? SqlCapture.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
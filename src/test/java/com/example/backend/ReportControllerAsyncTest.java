@@ -0,0 +1,84 @@
+package com.example.backend;
+
+import com.example.backend.service.BUSINESS.ReportService;
+import com.example.backend.util.TokenProvider;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Mono 로 응답하는 리포트 API 가 ASYNC 디스패치에서도 인가를 통과하는지 확인 (JWT 쿠키 인증)
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReportControllerAsyncTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final YearMonth MONTH = YearMonth.of(2024, 10);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @MockBean
+    private ReportService reportService;
+
+    @Test
+    public void industryComparisonCompletesOnAsyncDispatch() throws Exception {
+        given(reportService.getReport(MEMBER_ID, MONTH, "INDUSTRY_REPORT"))
+                .willReturn(Mono.just(Map.of("summary", "ok")));
+
+        MvcResult result = mockMvc.perform(get("/api/report/industry-comparison")
+                        .param("month", MONTH.toString())
+                        .cookie(accessTokenCookie()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summary").value("ok"));
+    }
+
+    @Test
+    public void marketTrendCompletesOnAsyncDispatch() throws Exception {
+        given(reportService.getReport(null, MONTH, "MARKET_REPORT"))
+                .willReturn(Mono.just(Map.of("summary", "ok")));
+
+        MvcResult result = mockMvc.perform(get("/api/report/market-trend")
+                        .param("month", MONTH.toString())
+                        .cookie(accessTokenCookie()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summary").value("ok"));
+    }
+
+    // ASYNC 디스패치를 허용해도 최초 요청은 여전히 인증이 필요함
+    @Test
+    public void reportRequestWithoutTokenIsRejected() throws Exception {
+        mockMvc.perform(get("/api/report/industry-comparison")
+                        .param("month", MONTH.toString()))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isForbidden());
+    }
+
+    private Cookie accessTokenCookie() {
+        return new Cookie("accessToken", tokenProvider.createAccessToken("async-test", MEMBER_ID));
+    }
+}
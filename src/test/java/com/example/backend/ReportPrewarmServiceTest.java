@@ -0,0 +1,73 @@
+package com.example.backend;
+
+import com.example.backend.service.BUSINESS.ReportPrewarmService;
+import com.example.backend.service.BUSINESS.ReportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// GPT 호출 실패가 원인 예외 그대로 전달되어, 일시적인 오류 (5xx) 만 backoff 재시도되는지 확인
+public class ReportPrewarmServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final YearMonth MONTH = YearMonth.of(2024, 10);
+    private static final String REPORT_TYPE = "INDUSTRY_REPORT";
+
+    private ReportService reportService;
+    private ReportPrewarmService reportPrewarmService;
+
+    @BeforeEach
+    public void setUp() {
+        reportService = mock(ReportService.class);
+        reportPrewarmService = new ReportPrewarmService(reportService, null, null, null);
+        ReflectionTestUtils.setField(reportPrewarmService, "maxRetries", 3);
+        ReflectionTestUtils.setField(reportPrewarmService, "backoffSeconds", 30L);
+    }
+
+    @Test
+    public void serviceUnavailableIsRetriedWithBackoff() {
+        when(reportService.getOrCreateReportAsync(eq(MEMBER_ID), eq(MONTH), eq(REPORT_TYPE)))
+                .thenReturn(CompletableFuture.failedFuture(gptError(503)))
+                .thenReturn(CompletableFuture.completedFuture("{}"));
+
+        StepVerifier.withVirtualTime(this::prewarmReport)
+                .thenAwait(Duration.ofMinutes(10))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(reportService, times(2)).getOrCreateReportAsync(any(), any(), any());
+    }
+
+    @Test
+    public void clientErrorIsNotRetried() {
+        when(reportService.getOrCreateReportAsync(eq(MEMBER_ID), eq(MONTH), eq(REPORT_TYPE)))
+                .thenReturn(CompletableFuture.failedFuture(gptError(400)));
+
+        StepVerifier.withVirtualTime(this::prewarmReport)
+                .thenAwait(Duration.ofMinutes(10))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(reportService, times(1)).getOrCreateReportAsync(any(), any(), any());
+    }
+
+    private Mono<Boolean> prewarmReport() {
+        return ReflectionTestUtils.invokeMethod(reportPrewarmService, "prewarmReport", MEMBER_ID, MONTH, REPORT_TYPE);
+    }
+
+    private WebClientResponseException gptError(int status) {
+        return WebClientResponseException.create(status, "GPT error", HttpHeaders.EMPTY, new byte[0], null);
+    }
+}